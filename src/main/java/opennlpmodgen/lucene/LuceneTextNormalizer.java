@@ -5,15 +5,57 @@ import opennlpmodgen.tools.util.TextNormalizer;
 import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
 
 public class LuceneTextNormalizer implements TextNormalizer {
+    // conllu snapshots detect changes of this class, but not of lucene folding
+    // increase ConlluSnapshotCodec.VERSION if a lucene upgrade changes folding
+    // scratch buffer reused by every call in the thread, it holds input chars followed by folded chars
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[1024]);
+
     @Override
     public String normalizeText(String text, String language) {
+        if (isNormalized(text, language)) {
+            return text;
+        }
         // lowercase
         text = StringUtil.toLowerCase(text);
-        // fold to ascii
-        var inputChars = text.toCharArray();
-        var inputLength = inputChars.length;
-        var outputChars = new char[inputLength * 4];
-        var outputLength = ASCIIFoldingFilter.foldToASCII(inputChars, 0, outputChars, 0, inputLength);
-        return new String(outputChars, 0, outputLength);
+        // fold to ascii, ascii text is not changed by folding
+        if (isAscii(text)) {
+            return text;
+        }
+        var inputLength = text.length();
+        // a single char may be folded to at most 4 chars
+        var buffer = getBuffer(inputLength * 5);
+        text.getChars(0, inputLength, buffer, 0);
+        var outputEnd = ASCIIFoldingFilter.foldToASCII(buffer, 0, buffer, inputLength, inputLength);
+        return new String(buffer, inputLength, outputEnd - inputLength);
+    }
+
+    @Override
+    public boolean isNormalized(String text, String language) {
+        // lowercase ascii text is not changed by lowercasing and folding
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private char[] getBuffer(int size) {
+        var buffer = BUFFER.get();
+        if (buffer.length < size) {
+            buffer = new char[Math.max(size, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        return buffer;
     }
 }
@@ -33,6 +33,12 @@ import java.time.Duration;
 @Configuration
 @ComponentScan(basePackageClasses = MainConfig.class)
 public class MainConfig {
+    // settings are passed as system properties, in example: -Dopennlpmodgen.training.parallelism=4
+    public static final String SETTINGS_PREFIX = "opennlpmodgen.";
+    // properties file with settings, in example: -Dopennlpmodgen.settings.file=training.properties
+    // settings in the file use the same prefix, system properties override them
+    public static final String SETTINGS_FILE_SETTING = "settings.file";
+
     @Bean
     public WebClient webClient() {
         var httpClient = HttpClient.newBuilder()
@@ -71,8 +77,16 @@ public class MainConfig {
         return new LuceneResourceDirectorySupplier(rootDirectorySupplier());
     }
 
+    @Bean
+    public Settings settings() {
+        var settings = Settings.fromProperties(System.getProperties(), SETTINGS_PREFIX);
+        return settings.getString(SETTINGS_FILE_SETTING)
+                .map(settingsFile -> settings.withDefaults(Settings.fromFile(Path.of(settingsFile), SETTINGS_PREFIX)))
+                .getOrElse(settings);
+    }
+
     @Bean
     public TextNormalizer textNormalizer() {
-        return new LuceneTextNormalizer();
+        return new CachingTextNormalizer(new LuceneTextNormalizer(), settings().getInt(CachingTextNormalizer.CACHE_SIZE_SETTING, 100_000));
     }
 }
@@ -13,10 +13,14 @@
  */
 package opennlpmodgen.tools;
 
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.apachecommons.CommonsLog;
 import opennlpmodgen.tools.conllu.ConlluLemmatizerModelProcessor;
 import opennlpmodgen.tools.conllu.ConlluPOSModelProcessor;
 import opennlpmodgen.tools.conllu.ConlluSentenceModelProcessor;
@@ -24,10 +28,17 @@ import opennlpmodgen.tools.conllu.ConlluTokenizerModelProcessor;
 import opennlpmodgen.tools.model.ModelAlgorithm;
 import opennlpmodgen.tools.unidep.UniDepConlluDownloader;
 import opennlpmodgen.tools.unidep.util.FilePathSupplier;
+import opennlpmodgen.tools.util.HeapBudget;
+import opennlpmodgen.tools.util.ParallelTaskRunner;
+import opennlpmodgen.tools.util.Settings;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
 @Component
 @RequiredArgsConstructor
+@CommonsLog
 public class MainProcessor {
     @NonNull
     private final FilePathSupplier filePathSupplier;
@@ -41,6 +52,22 @@ public class MainProcessor {
     private final ConlluPOSModelProcessor posModelProcessor;
     @NonNull
     private final ConlluLemmatizerModelProcessor lemmatizerModelProcessor;
+    @NonNull
+    private final Settings settings;
+    @NonNull
+    private final ParallelTaskRunner taskRunner;
+
+    // number of model types processed at the same time
+    public static final String PIPELINE_PARALLELISM_SETTING = "pipeline.parallelism";
+    // heap shared by concurrently processed model types
+    public static final String PIPELINE_HEAP_BUDGET_SETTING = "pipeline.heap.budget.mb";
+    // heap reserved by a model type: pipeline.<model-type>.heap.mb, in example: pipeline.lemmatizer.heap.mb
+    public static final String PIPELINE_STAGE_HEAP_SETTING = "pipeline.%s.heap.mb";
+
+    public static final String SENTENCE_DETECTOR_STAGE = "sentence-detector";
+    public static final String TOKENIZER_STAGE = "tokenizer";
+    public static final String POS_TAGGER_STAGE = "pos-tagger";
+    public static final String LEMMATIZER_STAGE = "lemmatizer";
 
     // MAXENT - try it
     // MAXENT_QN - try it
@@ -61,6 +88,8 @@ public class MainProcessor {
     // PERCEPTRON - takes a lot of time to train in lemmatization phase, do not use
     // PERCEPTRON_SEQUENCE - takes a lot of time to train in lemmatization phase, do not use
     // NAIVE_BAYES - sometimes fails with out of memory error, it is also not better than MAXENT, do not use
+    // out of memory errors may be avoided by pruning rare lemmatizer outcomes, see LemmaOutcomePruner
+    // or isolated by training in worker processes, see ForkedTrainingRunner
     public static final Seq<String> LEMMATIZER_ALGORITHMS = Vector.of(ModelAlgorithm.MAXENT);
 
     public void processUniDepConlluModel(@NonNull String language) {
@@ -76,10 +105,41 @@ public class MainProcessor {
         var lemmatizerReportFile = filePathSupplier.getLemmatizerReportFile(language);
         // download treebank, unpack conllu file
         conlluFileDownloader.downloadUniDepConlluFile(treebankFile, language, conlluFile);
+        // model types depend only on the (read only) conllu file, so they may be processed concurrently
         // try several algorithms and choose the best model
-        sentenceModelProcessor.processConlluModel(conlluFile, TOKENIZER_ALGORITHMS, language, sentenceModelFile, sentenceReportFile);
-        tokenizerModelProcessor.processConlluModel(conlluFile, TOKENIZER_ALGORITHMS, language, tokenizerModelFile, tokenizerReportFile);
-        posModelProcessor.processConlluModel(conlluFile, POS_ALGORITHMS, language, posModelFile, posReportFile);
-        lemmatizerModelProcessor.processConlluModel(conlluFile, LEMMATIZER_ALGORITHMS, language, lemmatizerModelFile, lemmatizerReportFile);
+        var stages = Vector.<Tuple2<String, Runnable>>of(
+                Tuple.of(SENTENCE_DETECTOR_STAGE, () -> sentenceModelProcessor.processConlluModel(conlluFile, TOKENIZER_ALGORITHMS, language, sentenceModelFile, sentenceReportFile)),
+                Tuple.of(TOKENIZER_STAGE, () -> tokenizerModelProcessor.processConlluModel(conlluFile, TOKENIZER_ALGORITHMS, language, tokenizerModelFile, tokenizerReportFile)),
+                Tuple.of(POS_TAGGER_STAGE, () -> posModelProcessor.processConlluModel(conlluFile, POS_ALGORITHMS, language, posModelFile, posReportFile)),
+                Tuple.of(LEMMATIZER_STAGE, () -> lemmatizerModelProcessor.processConlluModel(conlluFile, LEMMATIZER_ALGORITHMS, language, lemmatizerModelFile, lemmatizerReportFile)));
+        processStages(stages, language);
+    }
+
+    private void processStages(Seq<Tuple2<String, Runnable>> stages, String language) {
+        var heapBudget = new HeapBudget(settings.getLong(PIPELINE_HEAP_BUDGET_SETTING, HeapBudget.getMaxHeapMegabytes()));
+        Seq<Callable<Tuple3<String, Duration, Duration>>> tasks = stages
+                .map(stage -> () -> processStage(stage._1, stage._2, heapBudget, language));
+        var stageTimings = taskRunner.runTasks(tasks, settings.getInt(PIPELINE_PARALLELISM_SETTING, 1));
+        log.info(String.format("Processing finished, language: '%s', stage timings: %s", language, stageTimings
+                .map(timing -> String.format("%s (waiting: %s, processing: %s)", timing._1, formatDuration(timing._2), formatDuration(timing._3)))
+                .mkString(", ")));
+    }
+
+    private Tuple3<String, Duration, Duration> processStage(String stageName, Runnable stage, HeapBudget heapBudget, String language) {
+        var heapMegabytes = settings.getLong(String.format(PIPELINE_STAGE_HEAP_SETTING, stageName), 0);
+        var queuedNanos = System.nanoTime();
+        return heapBudget.reserve(heapMegabytes, () -> {
+            var startNanos = System.nanoTime();
+            log.info(String.format("Stage '%s' started, language: '%s'", stageName, language));
+            stage.run();
+            var endNanos = System.nanoTime();
+            var processingDuration = Duration.ofNanos(endNanos - startNanos);
+            log.info(String.format("Stage '%s' finished, language: '%s', processing time: %s", stageName, language, formatDuration(processingDuration)));
+            return Tuple.of(stageName, Duration.ofNanos(startNanos - queuedNanos), processingDuration);
+        });
+    }
+
+    private String formatDuration(Duration duration) {
+        return String.format("%d:%02d:%02d", duration.toHours(), duration.toMinutesPart(), duration.toSecondsPart());
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools;
+
+import opennlpmodgen.tools.model.util.TrainingWorker;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.nio.file.Path;
+
+public class TrainingWorkerCmd {
+    // started by ForkedTrainingRunner in a separate java process, settings are passed as system properties
+    // arguments: <trainer-class> <algorithm> <language> <sample-class> <samples-file> <fraction> <model-file>
+    public static void main(String[] args) {
+        int exitCode;
+        try (var ctx = new AnnotationConfigApplicationContext(MainConfig.class)) {
+            var worker = ctx.getBean(TrainingWorker.class);
+            exitCode = worker.trainModel(args[0], args[1], args[2], args[3], Path.of(args[4]), Double.parseDouble(args[5]), Path.of(args[6]));
+        }
+        System.exit(exitCode);
+    }
+}
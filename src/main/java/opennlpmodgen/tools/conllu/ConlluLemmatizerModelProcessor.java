@@ -17,7 +17,7 @@ import lombok.NonNull;
 import opennlp.tools.lemmatizer.LemmaSample;
 import opennlp.tools.lemmatizer.LemmatizerModel;
 import opennlpmodgen.tools.conllu.convert.ConlluLemmaSamplesConverter;
-import opennlpmodgen.tools.conllu.parser.ConlluSentenceReader;
+import opennlpmodgen.tools.conllu.parser.ConlluSentenceCache;
 import opennlpmodgen.tools.model.LemmatizerModelProcessor;
 import opennlpmodgen.tools.util.FileUpToDateChecker;
 import org.springframework.stereotype.Component;
@@ -26,9 +26,9 @@ import org.springframework.stereotype.Component;
 public class ConlluLemmatizerModelProcessor extends ConlluModelProcessor<LemmatizerModel, LemmaSample> {
     public ConlluLemmatizerModelProcessor(
             @NonNull FileUpToDateChecker checker,
-            @NonNull ConlluSentenceReader sentenceReader,
+            @NonNull ConlluSentenceCache sentenceCache,
             @NonNull ConlluLemmaSamplesConverter converter,
             @NonNull LemmatizerModelProcessor modelProcessor) {
-        super(checker, sentenceReader, converter, modelProcessor);
+        super(checker, sentenceCache, converter, modelProcessor);
     }
 }
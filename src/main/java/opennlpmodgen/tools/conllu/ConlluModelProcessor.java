@@ -13,13 +13,15 @@
  */
 package opennlpmodgen.tools.conllu;
 
+import io.vavr.Function0;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.apachecommons.CommonsLog;
 import opennlp.tools.util.model.BaseModel;
 import opennlpmodgen.tools.conllu.convert.ConlluSamplesConverter;
-import opennlpmodgen.tools.conllu.parser.ConlluSentenceReader;
+import opennlpmodgen.tools.conllu.parser.ConlluSentenceCache;
 import opennlpmodgen.tools.model.ModelProcessor;
 import opennlpmodgen.tools.util.FileUpToDateChecker;
 
@@ -32,7 +34,7 @@ public class ConlluModelProcessor<M extends BaseModel, S extends Serializable> {
     @NonNull
     private final FileUpToDateChecker checker;
     @NonNull
-    private final ConlluSentenceReader sentenceReader;
+    private final ConlluSentenceCache sentenceCache;
     @NonNull
     private final ConlluSamplesConverter<S> converter;
     @NonNull
@@ -46,11 +48,11 @@ public class ConlluModelProcessor<M extends BaseModel, S extends Serializable> {
             @NonNull Path reportPath) {
         if (!checker.isUpToDate(modelPath, conlluPath) || !checker.isUpToDate(reportPath, conlluPath)) {
             log.info(String.format("Processing model, language: '%s', conllu file: '%s'", language, conlluPath));
-            var sentences = sentenceReader.readSentences(conlluPath, language);
-            var sentenceCount = sentences.size();
-            var samples = converter.convert(sentences, language);
-            var sampleCount = samples.size();
-            log.info(String.format("Sentence count: %d, sample count: %d, sample ratio: %.02f%%", sentenceCount, sampleCount, 100.0 * sampleCount / sentenceCount));
+            var corpus = sentenceCache.getCorpus(conlluPath, language);
+            // sample counts are logged once samples are split, conversion is not repeated just to count them
+            log.info(String.format("Sentence count: %d", corpus.size()));
+            // samples are converted from the corpus on demand every time they are read
+            Function0<Iterator<S>> samples = () -> converter.iterateSamples(Iterator.ofAll(corpus), language);
             modelProcessor.processModel(samples, algorithms, language, modelPath, reportPath);
         } else {
             log.info(String.format("Skip processing model, language: '%s', conllu file: '%s'", language, conlluPath));
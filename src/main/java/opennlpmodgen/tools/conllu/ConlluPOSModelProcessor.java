@@ -17,7 +17,7 @@ import lombok.NonNull;
 import opennlp.tools.postag.POSModel;
 import opennlp.tools.postag.POSSample;
 import opennlpmodgen.tools.conllu.convert.ConlluPOSSamplesConverter;
-import opennlpmodgen.tools.conllu.parser.ConlluSentenceReader;
+import opennlpmodgen.tools.conllu.parser.ConlluSentenceCache;
 import opennlpmodgen.tools.model.POSModelProcessor;
 import opennlpmodgen.tools.util.FileUpToDateChecker;
 import org.springframework.stereotype.Component;
@@ -26,9 +26,9 @@ import org.springframework.stereotype.Component;
 public class ConlluPOSModelProcessor extends ConlluModelProcessor<POSModel, POSSample> {
     public ConlluPOSModelProcessor(
             @NonNull FileUpToDateChecker checker,
-            @NonNull ConlluSentenceReader sentenceReader,
+            @NonNull ConlluSentenceCache sentenceCache,
             @NonNull ConlluPOSSamplesConverter converter,
             @NonNull POSModelProcessor modelProcessor) {
-        super(checker, sentenceReader, converter, modelProcessor);
+        super(checker, sentenceCache, converter, modelProcessor);
     }
 }
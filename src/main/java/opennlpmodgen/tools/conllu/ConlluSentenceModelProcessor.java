@@ -17,7 +17,7 @@ import lombok.NonNull;
 import opennlp.tools.sentdetect.SentenceModel;
 import opennlp.tools.sentdetect.SentenceSample;
 import opennlpmodgen.tools.conllu.convert.ConlluSentenceSamplesConverter;
-import opennlpmodgen.tools.conllu.parser.ConlluSentenceReader;
+import opennlpmodgen.tools.conllu.parser.ConlluSentenceCache;
 import opennlpmodgen.tools.model.SentenceModelProcessor;
 import opennlpmodgen.tools.util.FileUpToDateChecker;
 import org.springframework.stereotype.Component;
@@ -26,9 +26,9 @@ import org.springframework.stereotype.Component;
 public class ConlluSentenceModelProcessor extends ConlluModelProcessor<SentenceModel, SentenceSample> {
     public ConlluSentenceModelProcessor(
             @NonNull FileUpToDateChecker checker,
-            @NonNull ConlluSentenceReader sentenceReader,
+            @NonNull ConlluSentenceCache sentenceCache,
             @NonNull ConlluSentenceSamplesConverter converter,
             @NonNull SentenceModelProcessor modelProcessor) {
-        super(checker, sentenceReader, converter, modelProcessor);
+        super(checker, sentenceCache, converter, modelProcessor);
     }
 }
@@ -17,7 +17,7 @@ import lombok.NonNull;
 import opennlp.tools.tokenize.TokenSample;
 import opennlp.tools.tokenize.TokenizerModel;
 import opennlpmodgen.tools.conllu.convert.ConlluTokenSamplesConverter;
-import opennlpmodgen.tools.conllu.parser.ConlluSentenceReader;
+import opennlpmodgen.tools.conllu.parser.ConlluSentenceCache;
 import opennlpmodgen.tools.model.TokenizerModelProcessor;
 import opennlpmodgen.tools.util.FileUpToDateChecker;
 import org.springframework.stereotype.Component;
@@ -26,9 +26,9 @@ import org.springframework.stereotype.Component;
 public class ConlluTokenizerModelProcessor extends ConlluModelProcessor<TokenizerModel, TokenSample> {
     public ConlluTokenizerModelProcessor(
             @NonNull FileUpToDateChecker checker,
-            @NonNull ConlluSentenceReader sentenceReader,
+            @NonNull ConlluSentenceCache sentenceCache,
             @NonNull ConlluTokenSamplesConverter converter,
             @NonNull TokenizerModelProcessor modelProcessor) {
-        super(checker, sentenceReader, converter, modelProcessor);
+        super(checker, sentenceCache, converter, modelProcessor);
     }
 }
@@ -15,6 +15,7 @@ package opennlpmodgen.tools.conllu.convert;
 
 import io.vavr.Tuple;
 import io.vavr.Tuple3;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +32,7 @@ public class ConlluLemmaSamplesConverter implements ConlluSamplesConverter<Lemma
     private final ConlluValidator validator;
 
     @Override
-    public Seq<LemmaSample> convert(@NonNull Seq<ConlluSentence> sentences, @NonNull String language) {
+    public Iterator<LemmaSample> iterateSamples(@NonNull Iterator<ConlluSentence> sentences, @NonNull String language) {
         return sentences
                 //.map(sentence -> normalizer.normalizeSentence(sentence, language))
                 .filter(validator::isValidForLemmatization)
@@ -15,6 +15,7 @@ package opennlpmodgen.tools.conllu.convert;
 
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +32,7 @@ public class ConlluPOSSamplesConverter implements ConlluSamplesConverter<POSSamp
     private final ConlluValidator validator;
 
     @Override
-    public Seq<POSSample> convert(@NonNull Seq<ConlluSentence> sentences, @NonNull String language) {
+    public Iterator<POSSample> iterateSamples(@NonNull Iterator<ConlluSentence> sentences, @NonNull String language) {
         return sentences
                 .filter(validator::isValidForLemmatization)
                 .map(ConlluSentence::flattenWords)
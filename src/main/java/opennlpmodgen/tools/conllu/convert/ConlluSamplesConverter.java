@@ -13,11 +13,17 @@
  */
 package opennlpmodgen.tools.conllu.convert;
 
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
 
 import java.io.Serializable;
 
 public interface ConlluSamplesConverter<S extends Serializable> {
-    public Seq<S> convert(Seq<ConlluSentence> sentences, String language);
+    // samples are converted lazily, only when they are requested from the returned iterator
+    public Iterator<S> iterateSamples(Iterator<ConlluSentence> sentences, String language);
+
+    public default Seq<S> convert(Iterable<ConlluSentence> sentences, String language) {
+        return iterateSamples(Iterator.ofAll(sentences), language).toVector();
+    }
 }
@@ -13,46 +13,50 @@
  */
 package opennlpmodgen.tools.conllu.convert;
 
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
-import io.vavr.collection.Vector;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import opennlp.tools.sentdetect.SentenceSample;
 import opennlp.tools.util.Span;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
 import opennlpmodgen.tools.conllu.util.ConlluValidator;
+import opennlpmodgen.tools.util.Settings;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class ConlluSentenceSamplesConverter implements ConlluSamplesConverter<SentenceSample> {
+    // number of sentences joined into a single sample (document)
+    public static final String GROUP_SIZE_SETTING = "conllu.sentence.group.size";
+
     @NonNull
     private final ConlluValidator validator;
+    @NonNull
+    private final Settings settings;
 
     @Override
-    public Seq<SentenceSample> convert(@NonNull Seq<ConlluSentence> sentences, @NonNull String language) {
-        var validatedSentences = sentences.filter(validator::isValidForTokenization);
-        var groupedSentences = Vector.ofAll(validatedSentences.sliding(10, 10));
-        return groupedSentences.map(this::convert);
+    public Iterator<SentenceSample> iterateSamples(@NonNull Iterator<ConlluSentence> sentences, @NonNull String language) {
+        var groupSize = Math.max(1, settings.getInt(GROUP_SIZE_SETTING, 10));
+        return sentences
+                .filter(validator::isValidForTokenization)
+                .grouped(groupSize)
+                .map(this::convert);
     }
 
     private SentenceSample convert(Seq<ConlluSentence> sentences) {
-        return sentences.foldLeft(new SentenceSample(""), this::convert);
-    }
-
-    private SentenceSample convert(SentenceSample prevSample, ConlluSentence sentence) {
-        var prevText = prevSample.getDocument();
-        var prevSpans = Vector.of(prevSample.getSentences());
-        var currText = sentence.getText();
-        if (prevText.isEmpty()) {
-            return new SentenceSample(currText, new Span(0, currText.length()));
-        } else {
-            var text = prevText + " " + currText;
-            var lastSpan = prevSpans.last();
-            var start = lastSpan.getEnd() + 1;
-            var end = start + currText.length();
-            var spans = prevSpans.append(new Span(start, end)).toJavaArray(Span[]::new);
-            return new SentenceSample(text, spans);
+        // sentences are separated by a single space, the document is built once for the whole group
+        var document = new StringBuilder();
+        var spans = new Span[sentences.size()];
+        var index = 0;
+        for (var sentence : sentences) {
+            if (index > 0) {
+                document.append(' ');
+            }
+            var start = document.length();
+            document.append(sentence.getText());
+            spans[index++] = new Span(start, document.length());
         }
+        return new SentenceSample(document.toString(), spans);
     }
 }
@@ -13,6 +13,7 @@
  */
 package opennlpmodgen.tools.conllu.convert;
 
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +31,7 @@ public class ConlluTokenSamplesConverter implements ConlluSamplesConverter<Token
     private final ConlluValidator validator;
 
     @Override
-    public Seq<TokenSample> convert(@NonNull Seq<ConlluSentence> sentences, @NonNull String language) {
+    public Iterator<TokenSample> iterateSamples(@NonNull Iterator<ConlluSentence> sentences, @NonNull String language) {
         return sentences
                 .filter(validator::isValidForTokenization)
                 .map(ConlluSentence::flattenWords)
@@ -38,23 +39,25 @@ public class ConlluTokenSamplesConverter implements ConlluSamplesConverter<Token
     }
 
     private TokenSample convert(ConlluSentence sentence) {
-        var text = sentence.getText();
-        var spans = createSpans(text, getForms(sentence.getWords()));
+        // form offsets computed by the validator are carried by the flattened sentence
+        // sentence valid for tokenization always has offsets of all forms, otherwise validation is broken
+        var offsets = validator.getFormOffsets(sentence);
+        if (offsets.length != sentence.getWords().size()) {
+            throw new IllegalStateException(String.format("Sentence valid for tokenization has %d form offsets but %d words: %s",
+                    offsets.length, sentence.getWords().size(), sentence.getText()));
+        }
         // TokenSample.parse adds trailing space
         // don't know if it is really needed but simulate this behavior
-        return new TokenSample(text + " ", spans.toJavaArray(size -> new Span[size]));
+        return new TokenSample(sentence.getText() + " ", createSpans(sentence.getWords(), offsets));
     }
 
-    private Seq<String> getForms(Seq<ConlluWordLine> words) {
-        return words.map(ConlluWordLine::getForm);
-    }
-
-    private Seq<Span> createSpans(String text, Seq<String> forms) {
-        return forms.scanLeft(new Span(0, 0), (prevSpan, form) -> createSpan(text, prevSpan, form)).tail();
-    }
-
-    private Span createSpan(String text, Span prevSpan, String form) {
-        int start = text.indexOf(form, prevSpan.getEnd());
-        return new Span(start, start + form.length());
+    private Span[] createSpans(Seq<ConlluWordLine> words, int[] offsets) {
+        var spans = new Span[offsets.length];
+        var index = 0;
+        for (var word : words) {
+            spans[index] = new Span(offsets[index], offsets[index] + word.getForm().length());
+            index++;
+        }
+        return spans;
     }
 }
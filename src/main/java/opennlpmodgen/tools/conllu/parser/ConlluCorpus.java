@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Vector;
+import lombok.NonNull;
+import opennlpmodgen.tools.conllu.ConlluPOSTag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class ConlluCorpus implements Iterable<ConlluSentence> {
+    // columnar representation of sentences, every word is a row in primitive arrays
+    // texts, forms and lemmas are stored once in the dictionary and referenced by id
+    // pos tags are stored as byte ids, ConlluPOSTag values come first, then unknown tags
+    // sub-words follow their compound word and point to it by parent index
+    // validation result of every sentence is computed once when the corpus is created
+    // validation flags are stored for sentences, form offsets for words (0 for sub-words)
+    private static final int NOT_VALIDATED = 0;
+    private static final int NO_PARENT = -1;
+
+    private final String[] dictionary;
+    private final String[] posTags;
+    private final int[] sentenceTextIds;
+    private final int[] sentenceWordOffsets;
+    private final byte[] sentenceValidations;
+    private final boolean[] sentenceFormOffsetsDefined;
+    private final int[] startIds;
+    private final int[] endIds;
+    private final int[] formIds;
+    private final int[] lemmaIds;
+    private final byte[] posTagIds;
+    private final int[] parents;
+    private final int[] formOffsets;
+
+    private ConlluCorpus(Builder builder) {
+        this.dictionary = builder.dictionary.toArray(new String[0]);
+        this.posTags = builder.posTags.toArray(new String[0]);
+        this.sentenceTextIds = Arrays.copyOf(builder.sentenceTextIds, builder.sentenceCount);
+        this.sentenceWordOffsets = Arrays.copyOf(builder.sentenceWordOffsets, builder.sentenceCount + 1);
+        this.sentenceValidations = Arrays.copyOf(builder.sentenceValidations, builder.sentenceCount);
+        this.sentenceFormOffsetsDefined = Arrays.copyOf(builder.sentenceFormOffsetsDefined, builder.sentenceCount);
+        this.startIds = Arrays.copyOf(builder.startIds, builder.wordCount);
+        this.endIds = Arrays.copyOf(builder.endIds, builder.wordCount);
+        this.formIds = Arrays.copyOf(builder.formIds, builder.wordCount);
+        this.lemmaIds = Arrays.copyOf(builder.lemmaIds, builder.wordCount);
+        this.posTagIds = Arrays.copyOf(builder.posTagIds, builder.wordCount);
+        this.parents = Arrays.copyOf(builder.parents, builder.wordCount);
+        this.formOffsets = Arrays.copyOf(builder.formOffsets, builder.wordCount);
+    }
+
+    public static ConlluCorpus of(@NonNull Iterable<ConlluSentence> sentences) {
+        return of(sentences, sentence -> null);
+    }
+
+    public static ConlluCorpus of(@NonNull Iterable<ConlluSentence> sentences, @NonNull Function<ConlluSentence, ConlluValidation> validator) {
+        var builder = new Builder();
+        sentences.forEach(sentence -> builder.addSentence(sentence, validator.apply(sentence)));
+        return new ConlluCorpus(builder);
+    }
+
+    public int size() {
+        return sentenceTextIds.length;
+    }
+
+    public int getWordCount() {
+        return startIds.length;
+    }
+
+    public int getDictionarySize() {
+        return dictionary.length;
+    }
+
+    public ConlluSentence getSentence(int index) {
+        // sentences are materialized on demand, they should not be kept longer than necessary
+        var words = new ArrayList<ConlluWordLine>();
+        var wordOffsets = new ArrayList<Integer>();
+        var wordsEnd = sentenceWordOffsets[index + 1];
+        var wordIndex = sentenceWordOffsets[index];
+        while (wordIndex < wordsEnd) {
+            var subWordsEnd = wordIndex + 1;
+            while (subWordsEnd < wordsEnd && parents[subWordsEnd] == wordIndex) {
+                subWordsEnd++;
+            }
+            words.add(getWord(wordIndex, subWordsEnd));
+            wordOffsets.add(formOffsets[wordIndex]);
+            wordIndex = subWordsEnd;
+        }
+        return new ConlluSentence(dictionary[sentenceTextIds[index]], Vector.ofAll(words), getValidation(index, wordOffsets));
+    }
+
+    private ConlluValidation getValidation(int index, List<Integer> wordOffsets) {
+        var flags = sentenceValidations[index];
+        if (flags == NOT_VALIDATED) {
+            return null;
+        }
+        var hasFormOffsets = sentenceFormOffsetsDefined[index];
+        return new ConlluValidation(flags, hasFormOffsets ? wordOffsets.stream().mapToInt(Integer::intValue).toArray() : new int[0]);
+    }
+
+    private ConlluWordLine getWord(int wordIndex, int subWordsEnd) {
+        if (startIds[wordIndex] != endIds[wordIndex]) {
+            var subWords = Vector.range(wordIndex + 1, subWordsEnd).map(this::getSimpleWord);
+            return new ConlluWordLine(startIds[wordIndex], endIds[wordIndex], dictionary[formIds[wordIndex]], subWords);
+        }
+        return getSimpleWord(wordIndex);
+    }
+
+    private ConlluWordLine getSimpleWord(int wordIndex) {
+        return new ConlluWordLine(startIds[wordIndex], dictionary[formIds[wordIndex]], dictionary[lemmaIds[wordIndex]], posTags[posTagIds[wordIndex] & 0xFF]);
+    }
+
+    @Override
+    public Iterator<ConlluSentence> iterator() {
+        return Iterator.range(0, size()).map(this::getSentence);
+    }
+
+    private static class Builder {
+        private final Map<String, Integer> dictionaryIds = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> posTagIdsByName = new HashMap<>();
+        private final List<String> posTags = new ArrayList<>();
+        private int sentenceCount = 0;
+        private int[] sentenceTextIds = new int[1024];
+        private int[] sentenceWordOffsets = new int[1025];
+        private byte[] sentenceValidations = new byte[1024];
+        private boolean[] sentenceFormOffsetsDefined = new boolean[1024];
+        private int wordCount = 0;
+        private int[] startIds = new int[1024];
+        private int[] endIds = new int[1024];
+        private int[] formIds = new int[1024];
+        private int[] lemmaIds = new int[1024];
+        private byte[] posTagIds = new byte[1024];
+        private int[] parents = new int[1024];
+        private int[] formOffsets = new int[1024];
+
+        private Builder() {
+            for (var posTag : ConlluPOSTag.values()) {
+                getPosTagId(posTag.name());
+            }
+        }
+
+        private void addSentence(ConlluSentence sentence, ConlluValidation validation) {
+            if (sentenceCount == sentenceTextIds.length) {
+                sentenceTextIds = Arrays.copyOf(sentenceTextIds, sentenceCount * 2);
+                sentenceWordOffsets = Arrays.copyOf(sentenceWordOffsets, sentenceCount * 2 + 1);
+                sentenceValidations = Arrays.copyOf(sentenceValidations, sentenceCount * 2);
+                sentenceFormOffsetsDefined = Arrays.copyOf(sentenceFormOffsetsDefined, sentenceCount * 2);
+            }
+            var sentenceFormOffsets = validation != null ? validation.getFormOffsets() : new int[0];
+            var hasFormOffsets = sentenceFormOffsets.length == sentence.getWords().size();
+            sentenceTextIds[sentenceCount] = getDictionaryId(sentence.getText());
+            sentenceValidations[sentenceCount] = (byte) (validation != null ? validation.getFlags() : NOT_VALIDATED);
+            sentenceFormOffsetsDefined[sentenceCount] = hasFormOffsets;
+            var index = 0;
+            for (var word : sentence.getWords()) {
+                var parent = addWord(word, NO_PARENT, hasFormOffsets ? sentenceFormOffsets[index++] : 0);
+                word.getSubWords().forEach(subWord -> addWord(subWord, parent, 0));
+            }
+            sentenceCount++;
+            sentenceWordOffsets[sentenceCount] = wordCount;
+        }
+
+        private int addWord(ConlluWordLine word, int parent, int formOffset) {
+            if (wordCount == startIds.length) {
+                growWords(wordCount * 2);
+            }
+            startIds[wordCount] = word.getStartId();
+            endIds[wordCount] = word.getEndId();
+            formIds[wordCount] = getDictionaryId(word.getForm());
+            lemmaIds[wordCount] = getDictionaryId(word.getLemma());
+            posTagIds[wordCount] = getPosTagId(word.getPosTag());
+            parents[wordCount] = parent;
+            formOffsets[wordCount] = formOffset;
+            return wordCount++;
+        }
+
+        private void growWords(int capacity) {
+            startIds = Arrays.copyOf(startIds, capacity);
+            endIds = Arrays.copyOf(endIds, capacity);
+            formIds = Arrays.copyOf(formIds, capacity);
+            lemmaIds = Arrays.copyOf(lemmaIds, capacity);
+            posTagIds = Arrays.copyOf(posTagIds, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            formOffsets = Arrays.copyOf(formOffsets, capacity);
+        }
+
+        private int getDictionaryId(String string) {
+            return dictionaryIds.computeIfAbsent(string, key -> {
+                dictionary.add(key);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private byte getPosTagId(String posTag) {
+            int id = posTagIdsByName.computeIfAbsent(posTag, key -> {
+                posTags.add(key);
+                return posTags.size() - 1;
+            });
+            if (id > 0xFF) {
+                throw new IllegalArgumentException(String.format("Too many distinct pos tags, pos tag: '%s'", posTag));
+            }
+            return (byte) id;
+        }
+    }
+}
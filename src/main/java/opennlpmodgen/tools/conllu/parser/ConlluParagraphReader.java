@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+public class ConlluParagraphReader implements Iterator<Seq<String>>, Closeable {
+    // paragraphs (sentence blocks) are separated by empty lines
+    // only the current paragraph is kept in memory, the file is closed when all paragraphs are read
+    private final BufferedReader reader;
+    private Option<Seq<String>> nextParagraph = Option.none();
+    private boolean closed = false;
+
+    @SneakyThrows
+    public ConlluParagraphReader(@NonNull Path conlluPath) {
+        this.reader = Files.newBufferedReader(conlluPath, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextParagraph.isEmpty() && !closed) {
+            nextParagraph = readParagraph();
+        }
+        return nextParagraph.isDefined();
+    }
+
+    @Override
+    public Seq<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more paragraphs");
+        }
+        var paragraph = nextParagraph.get();
+        nextParagraph = Option.none();
+        return paragraph;
+    }
+
+    @SneakyThrows
+    private Option<Seq<String>> readParagraph() {
+        var lines = new ArrayList<String>();
+        for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (!line.isEmpty()) {
+                lines.add(line);
+            } else if (!lines.isEmpty()) {
+                return Option.some(Vector.ofAll(lines));
+            }
+        }
+        close();
+        return lines.isEmpty() ? Option.none() : Option.some(Vector.ofAll(lines));
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        closed = true;
+        reader.close();
+    }
+}
@@ -15,72 +15,137 @@ package opennlpmodgen.tools.conllu.parser;
 
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
-import io.vavr.control.Option;
 import lombok.NonNull;
+import opennlpmodgen.tools.conllu.util.ConlluStringInterner;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class ConlluParser {
-    public ConlluSentence parse(@NonNull Seq<String> lines) {
-        String sentenceText = lines
-                .map(this::parseSentenceText)
-                .filter(Option::isDefined)
-                .map(Option::get)
-                .getOrElse("");
-        Seq<ConlluWordLine> words = lines
-                .map(this::parseWordLine)
-                .filter(Option::isDefined)
-                .map(Option::get);
+    public ConlluSentence parse(@NonNull Seq<String> lines, @NonNull ConlluStringInterner interner) {
+        // single pass over lines, the first text comment is used as sentence text
+        String sentenceText = null;
+        var words = new ArrayList<ConlluWordLine>(lines.size());
+        for (var line : lines) {
+            if (line.startsWith("#")) {
+                sentenceText = sentenceText == null ? parseSentenceText(line) : sentenceText;
+            } else {
+                var word = parseWordLine(line, interner);
+                if (word != null) {
+                    words.add(word);
+                }
+            }
+        }
 
-        return new ConlluSentence(sentenceText, postProcessWords(words));
+        return new ConlluSentence(sentenceText != null ? sentenceText : "", postProcessWords(words));
     }
 
-    private Option<String> parseSentenceText(String line) {
+    private String parseSentenceText(String line) {
         // # text = <sentenceText>
-        if (line.startsWith("#")) {
-            String[] fragments = line.substring(1).split("=", 2);
-            if (fragments.length == 2 && fragments[0].trim().equals("text")) {
-                return Option.of(fragments[1].trim());
-            }
+        String[] fragments = line.substring(1).split("=", 2);
+        if (fragments.length == 2 && fragments[0].trim().equals("text")) {
+            return fragments[1].trim();
+        }
+        return null;
+    }
+
+    private ConlluWordLine parseWordLine(String line, ConlluStringInterner interner) {
+        // only the first four tab separated columns are scanned, remaining columns are ignored
+        // lines of other types (empty nodes with decimal ids, malformed lines) are skipped
+        int idEnd = line.indexOf('\t');
+        int digitsEnd = scanDigits(line, 0, idEnd);
+        if (digitsEnd == 0) {
+            return null;
+        } else if (digitsEnd == idEnd) {
+            return parseSingleWordLine(line, idEnd, interner);
+        } else if (line.charAt(digitsEnd) == '-' && scanDigits(line, digitsEnd + 1, idEnd) == idEnd && digitsEnd + 1 < idEnd) {
+            return parseCompoundWordLine(line, digitsEnd, idEnd, interner);
+        }
+        return null;
+    }
+
+    private ConlluWordLine parseSingleWordLine(String line, int idEnd, ConlluStringInterner interner) {
+        // single word line: <id> <form> <lemma> <posTag>
+        int formEnd = line.indexOf('\t', idEnd + 1);
+        int lemmaEnd = formEnd < 0 ? -1 : line.indexOf('\t', formEnd + 1);
+        if (lemmaEnd < 0 || !hasContent(line, lemmaEnd + 1)) {
+            return null;
+        }
+        int posTagEnd = getColumnEnd(line, lemmaEnd + 1);
+        return new ConlluWordLine(
+                Integer.parseInt(line, 0, idEnd, 10),
+                interner.intern(line.substring(idEnd + 1, formEnd)),
+                interner.intern(line.substring(formEnd + 1, lemmaEnd)),
+                interner.intern(line.substring(lemmaEnd + 1, posTagEnd)));
+    }
+
+    private ConlluWordLine parseCompoundWordLine(String line, int dashIndex, int idEnd, ConlluStringInterner interner) {
+        // compound word line: <startId>-<endId> <form>
+        if (!hasContent(line, idEnd + 1)) {
+            return null;
+        }
+        int formEnd = getColumnEnd(line, idEnd + 1);
+        return new ConlluWordLine(
+                Integer.parseInt(line, 0, dashIndex, 10),
+                Integer.parseInt(line, dashIndex + 1, idEnd, 10),
+                interner.intern(line.substring(idEnd + 1, formEnd)),
+                Vector.empty());
+    }
+
+    private int scanDigits(String line, int from, int to) {
+        // index of the first non-digit character, 0 if the id column is missing
+        int index = from;
+        while (index < to && line.charAt(index) >= '0' && line.charAt(index) <= '9') {
+            index++;
         }
-        return Option.none();
+        return index;
     }
 
-    private Option<ConlluWordLine> parseWordLine(String line) {
-        String[] fragments = line.split("\\t");
-        if (fragments.length >= 4 && fragments[0].matches("[0-9]+")) {
-            // single word line: <id> <form> <lemma> <posTag>
-            return Option.of(new ConlluWordLine(
-                    Integer.parseInt(fragments[0]),
-                    fragments[1],
-                    fragments[2],
-                    fragments[3]));
-        } else if (fragments.length >= 2 && fragments[0].matches("[0-9]+\\-[0-9]+")) {
-            // compound word line: <startId>-<endId> <form>
-            String[] ids = fragments[0].split("\\-");
-            return Option.of(new ConlluWordLine(
-                    Integer.parseInt(ids[0]),
-                    Integer.parseInt(ids[1]),
-                    fragments[1],
-                    Vector.empty()));
+    private boolean hasContent(String line, int from) {
+        // trailing empty columns are ignored (like by String.split), a line ending with them lacks the columns
+        for (int index = from; index < line.length(); index++) {
+            if (line.charAt(index) != '\t') {
+                return true;
+            }
         }
-        return Option.none();
+        return false;
     }
 
-    private Seq<ConlluWordLine> postProcessWords(Seq<ConlluWordLine> words) {
-        return words.foldLeft(Vector.empty(), this::combineWord);
+        private int getColumnEnd(String line, int columnStart) {
+        int columnEnd = line.indexOf('\t', columnStart);
+        return columnEnd < 0 ? line.length() : columnEnd;
     }
 
-    private Seq<ConlluWordLine> combineWord(Seq<ConlluWordLine> words, ConlluWordLine word) {
-        if (words.isEmpty()) {
-            return Vector.of(word);
+    private Seq<ConlluWordLine> postProcessWords(List<ConlluWordLine> words) {
+        // sub-words are collected in a buffer, compound word is created once when all its sub-words are known
+        var processedWords = new ArrayList<ConlluWordLine>(words.size());
+        var subWords = new ArrayList<ConlluWordLine>();
+        ConlluWordLine compoundWord = null;
+        for (var word : words) {
+            if (compoundWord != null && isSubWord(compoundWord, word)) {
+                subWords.add(word);
+            } else {
+                addCompoundWord(processedWords, compoundWord, subWords);
+                compoundWord = word.isCompound() ? word : null;
+                if (!word.isCompound()) {
+                    processedWords.add(word);
+                }
+            }
         }
-        ConlluWordLine lastWord = words.last();
-        if (lastWord.isCompound() && !word.isCompound() && lastWord.getStartId() <= word.getStartId() && word.getStartId() <= lastWord.getEndId()) {
-            // last word is compound and current word should be added as sub-word
-            return words.update(words.size() - 1, new ConlluWordLine(lastWord.getStartId(), lastWord.getEndId(), lastWord.getForm(), lastWord.getSubWords().append(word)));
-        } else {
-            return words.append(word);
+        addCompoundWord(processedWords, compoundWord, subWords);
+        return Vector.ofAll(processedWords);
+    }
+
+    private boolean isSubWord(ConlluWordLine compoundWord, ConlluWordLine word) {
+        return !word.isCompound() && compoundWord.getStartId() <= word.getStartId() && word.getStartId() <= compoundWord.getEndId();
+    }
+
+    private void addCompoundWord(List<ConlluWordLine> processedWords, ConlluWordLine compoundWord, List<ConlluWordLine> subWords) {
+        if (compoundWord != null) {
+            processedWords.add(new ConlluWordLine(compoundWord.getStartId(), compoundWord.getEndId(), compoundWord.getForm(), Vector.ofAll(subWords)));
+            subWords.clear();
         }
     }
 }
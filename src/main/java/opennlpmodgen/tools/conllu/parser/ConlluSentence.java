@@ -15,8 +15,14 @@ package opennlpmodgen.tools.conllu.parser;
 
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
+
+import java.util.ArrayList;
+import java.util.function.Function;
 
 @Value
 public class ConlluSentence {
@@ -24,9 +30,52 @@ public class ConlluSentence {
     private final String text;
     @NonNull
     private final Seq<ConlluWordLine> words;
+    // validation result remembered by the sentence, it is not a part of the sentence data
+    @NonFinal
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient ConlluValidation validation;
+
+    public ConlluSentence(@NonNull String text, @NonNull Seq<ConlluWordLine> words) {
+        this(text, words, null);
+    }
+
+    ConlluSentence(@NonNull String text, @NonNull Seq<ConlluWordLine> words, ConlluValidation validation) {
+        this.text = text;
+        this.words = words;
+        this.validation = validation;
+    }
+
+    public ConlluValidation getValidation(@NonNull Function<ConlluSentence, ConlluValidation> validator) {
+        // concurrent validation of the same sentence computes the same result, so there is no need to synchronize
+        if (validation == null) {
+            validation = validator.apply(this);
+        }
+        return validation;
+    }
 
     public ConlluSentence flattenWords() {
-        return new ConlluSentence(text, flattenWords(words));
+        // validation is passed to the flattened sentence, form offsets of sub-words follow each other
+        var flattenedValidation = validation != null
+                ? new ConlluValidation(validation.getFlags(), flattenFormOffsets(validation.getFormOffsets()))
+                : null;
+        return new ConlluSentence(text, flattenWords(words), flattenedValidation);
+    }
+
+    private int[] flattenFormOffsets(int[] formOffsets) {
+        if (formOffsets.length != words.size()) {
+            return formOffsets;
+        }
+        var flattenedFormOffsets = new ArrayList<Integer>();
+        var index = 0;
+        for (var word : words) {
+            var offset = formOffsets[index++];
+            for (var flattenedWord : flattenWord(word)) {
+                flattenedFormOffsets.add(offset);
+                offset += flattenedWord.getForm().length();
+            }
+        }
+        return flattenedFormOffsets.stream().mapToInt(Integer::intValue).toArray();
     }
 
     private Seq<ConlluWordLine> flattenWords(Seq<ConlluWordLine> words) {
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+import opennlpmodgen.tools.conllu.util.ConlluValidator;
+import org.springframework.stereotype.Component;
+
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+@Component
+@RequiredArgsConstructor
+@CommonsLog
+public class ConlluSentenceCache {
+    @NonNull
+    private final ConlluSentenceReader sentenceReader;
+    @NonNull
+    private final ConlluValidator validator;
+
+    // only the recently read conllu file is cached, all model types are processed for the same file
+    // sentences are kept in compact columnar form, see ConlluCorpus
+    // soft reference allows to reclaim memory if training needs it, sentences are read again if necessary
+    private Option<Tuple2<Tuple3<Path, String, FileTime>, SoftReference<ConlluCorpus>>> cachedCorpus = Option.none();
+
+    @SneakyThrows
+    public synchronized ConlluCorpus getCorpus(@NonNull Path conlluPath, @NonNull String language) {
+        var key = Tuple.of(conlluPath.toAbsolutePath().normalize(), language, Files.getLastModifiedTime(conlluPath));
+        var corpusOpt = cachedCorpus
+                .filter(cached -> cached._1.equals(key))
+                .flatMap(cached -> Option.of(cached._2.get()));
+        if (corpusOpt.isDefined()) {
+            log.info(String.format("Reusing sentences, language: '%s', conllu file: '%s'", language, conlluPath));
+            return corpusOpt.get();
+        }
+        var corpus = ConlluCorpus.of(sentenceReader.readSentences(conlluPath, language), validator::validate);
+        log.info(String.format("Corpus sentence count: %d, word count: %d, dictionary size: %d", corpus.size(), corpus.getWordCount(), corpus.getDictionarySize()));
+        cachedCorpus = Option.some(Tuple.of(key, new SoftReference<>(corpus)));
+        return corpus;
+    }
+}
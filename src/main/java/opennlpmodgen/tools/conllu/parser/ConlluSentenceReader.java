@@ -13,44 +13,94 @@
  */
 package opennlpmodgen.tools.conllu.parser;
 
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import io.vavr.control.Option;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import opennlpmodgen.tools.conllu.transformer.ConlluTransformers;
 import opennlpmodgen.tools.conllu.util.ConlluNormalizer;
+import opennlpmodgen.tools.conllu.util.ConlluStringInterner;
+import opennlpmodgen.tools.util.ParallelTaskRunner;
+import opennlpmodgen.tools.util.Settings;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 @RequiredArgsConstructor
 public class ConlluSentenceReader {
+    // number of threads which parse, transform and normalize sentences
+    public static final String PARSING_PARALLELISM_SETTING = "conllu.parsing.parallelism";
+    // number of sentences processed by a single task
+    public static final String PARSING_CHUNK_SIZE_SETTING = "conllu.parsing.chunk.size";
+
     @NonNull
     private final ConlluParser parser;
     @NonNull
     private final ConlluTransformers transformers;
     @NonNull
     private final ConlluNormalizer normalizer;
+    @NonNull
+    private final ConlluSentenceSnapshot sentenceSnapshot;
+    @NonNull
+    private final Settings settings;
+    @NonNull
+    private final ParallelTaskRunner taskRunner;
 
-    @SneakyThrows
     public Seq<ConlluSentence> readSentences(@NonNull Path conlluPath, @NonNull String language) {
-        Seq<String> lineSeq = Vector.ofAll(Files.readAllLines(conlluPath, StandardCharsets.UTF_8));
-        Seq<Seq<String>> groupedSeq = Vector.ofAll(lineSeq.slideBy(String::isEmpty));
-        Seq<Seq<String>> paragraphSeq = groupedSeq.filter(lines -> !lines.forAll(String::isEmpty));
-        Seq<ConlluSentence> parsedSeq = paragraphSeq.map(parser::parse);
-        Seq<ConlluSentence> transformedSeq = parsedSeq.map(s -> transformers.transformSentence(s, language));
-        Seq<ConlluSentence> normalizedSeq = transformedSeq.flatMap(s -> normalize(s, language));
-        return transformedSeq.appendAll(normalizedSeq);
+        // binary snapshot of the previous run is used if the conllu file did not change since then
+        return sentenceSnapshot.readSentences(conlluPath, language)
+                .getOrElse(() -> parseSentences(conlluPath, language));
+    }
+
+    private Seq<ConlluSentence> parseSentences(Path conlluPath, String language) {
+        // original sentences come first, then normalized sentences (only if they differ from originals)
+        // chunks of sentences are processed concurrently by one pool, results are collected in the original order
+        // the file is read while previous chunks are processed, only (2 * parallelism) chunks are in flight at the same time
+        var parallelism = Math.max(1, settings.getInt(PARSING_PARALLELISM_SETTING, 1));
+        var chunkSize = Math.max(1, settings.getInt(PARSING_CHUNK_SIZE_SETTING, 1000));
+        // strings are shared only within this corpus, the interner is released when parsing is done
+        var interner = new ConlluStringInterner();
+        // originals are collected directly into the result, only normalized sentences are buffered until the end
+        var sentences = new AtomicReference<Vector<ConlluSentence>>(Vector.empty());
+        var normalizedSentences = new ArrayList<ConlluSentence>();
+        try (var paragraphs = new ConlluParagraphReader(conlluPath)) {
+            Iterator<Callable<Tuple2<Seq<ConlluSentence>, Seq<ConlluSentence>>>> tasks = paragraphs.grouped(chunkSize)
+                    .map(chunk -> () -> processChunk(chunk, language, interner));
+            taskRunner.runTasks(tasks, parallelism, 2 * parallelism, processedChunk -> {
+                sentences.set(sentences.get().appendAll(processedChunk._1));
+                normalizedSentences.addAll(processedChunk._2.toJavaList());
+            });
+        }
+        interner.logStatistics(language);
+        normalizer.clearCache(language);
+        var allSentences = sentences.get().appendAll(normalizedSentences);
+        normalizedSentences.clear();
+        sentenceSnapshot.writeSentences(conlluPath, language, allSentences);
+        return allSentences;
+    }
+
+    private Tuple2<Seq<ConlluSentence>, Seq<ConlluSentence>> processChunk(Seq<Seq<String>> paragraphs, String language, ConlluStringInterner interner) {
+        var transformedSentences = paragraphs.map(paragraph -> parseTransform(paragraph, language, interner));
+        var normalizedSentences = transformedSentences.flatMap(sentence -> normalize(sentence, language, interner));
+        return Tuple.of(transformedSentences, normalizedSentences);
+    }
+
+    private ConlluSentence parseTransform(Seq<String> paragraph, String language, ConlluStringInterner interner) {
+        return transformers.transformSentence(parser.parse(paragraph, interner), language);
     }
 
-    private Option<ConlluSentence> normalize(ConlluSentence sentence, String language) {
-        var normalizedSentence = normalizer.normalizeSentence(sentence, language);
-        return normalizedSentence.equals(sentence)
+    private Option<ConlluSentence> normalize(ConlluSentence sentence, String language, ConlluStringInterner interner) {
+        var normalizedSentence = normalizer.normalizeSentence(sentence, language, interner);
+        // normalizer returns the same instance if the sentence is not changed
+        return normalizedSentence == sentence
                 ? Option.none()
                 : Option.some(normalizedSentence);
     }
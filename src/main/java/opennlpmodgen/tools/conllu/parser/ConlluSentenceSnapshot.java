@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+import opennlpmodgen.tools.conllu.transformer.ConlluTransformers;
+import opennlpmodgen.tools.conllu.util.ConlluNormalizer;
+import opennlpmodgen.tools.util.FileUpToDateChecker;
+import opennlpmodgen.tools.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+@Component
+@CommonsLog
+public class ConlluSentenceSnapshot {
+    // classes which read, split, represent and encode sentences, they decide which sentences exist and how they are stored
+    private static final Seq<Class<?>> SENTENCE_READER_CLASSES = Vector.of(
+            ConlluSentenceReader.class,
+            ConlluParagraphReader.class,
+            ConlluParser.class,
+            ConlluSentence.class,
+            ConlluWordLine.class,
+            ConlluSnapshotCodec.class,
+            ConlluNormalizer.class,
+            ConlluTransformers.class);
+
+    private final FileUpToDateChecker fileUpToDateChecker;
+    // snapshot written by other reading, parsing, transformation or normalization code is not used
+    private final Seq<Class<?>> pipelineClasses;
+    private final long pipelineFingerprint;
+
+    public ConlluSentenceSnapshot(
+            @NonNull FileUpToDateChecker fileUpToDateChecker,
+            @NonNull ConlluParser parser,
+            @NonNull ConlluTransformers transformers,
+            @NonNull ConlluNormalizer normalizer,
+            @NonNull TextNormalizer textNormalizer) {
+        this.fileUpToDateChecker = fileUpToDateChecker;
+        this.pipelineClasses = SENTENCE_READER_CLASSES
+                .appendAll(Vector.of(parser.getClass(), transformers.getClass(), normalizer.getClass()))
+                .appendAll(transformers.getTransformers().map(Object::getClass))
+                .appendAll(textNormalizer.getImplementationClasses())
+                .flatMap(ConlluSentenceSnapshot::withNestedClasses)
+                .distinct();
+        this.pipelineFingerprint = computePipelineFingerprint(pipelineClasses);
+    }
+
+    Seq<Class<?>> getPipelineClasses() {
+        return pipelineClasses;
+    }
+
+    public static Path getSnapshotPath(@NonNull Path conlluPath) {
+        return conlluPath.resolveSibling(conlluPath.getFileName() + ".snapshot");
+    }
+
+    public Option<Seq<ConlluSentence>> readSentences(@NonNull Path conlluPath, @NonNull String language) {
+        var snapshotPath = getSnapshotPath(conlluPath);
+        if (!fileUpToDateChecker.isUpToDate(snapshotPath, conlluPath)) {
+            return Option.none();
+        }
+        // damaged snapshot is not an error, sentences are parsed again and the snapshot is overwritten
+        var sentencesOpt = Try.of(() -> ConlluSnapshotCodec.decode(readBuffer(snapshotPath), language, pipelineFingerprint))
+                .onFailure(e -> log.warn(String.format("Cannot read snapshot: '%s'", snapshotPath), e))
+                .getOrElse(Option.none());
+        sentencesOpt.forEach(sentences -> log.info(String.format("Read %d sentences from snapshot: '%s'", sentences.size(), snapshotPath)));
+        return sentencesOpt;
+    }
+
+    public void writeSentences(@NonNull Path conlluPath, @NonNull String language, @NonNull Seq<ConlluSentence> sentences) {
+        // snapshot is written to a temporary file first, so an interrupted write never leaves a valid looking snapshot
+        // snapshot is only a cache, failed write (read-only directory, full disk) is not an error
+        var snapshotPath = getSnapshotPath(conlluPath);
+        var tmpPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            try (var out = new BufferedOutputStream(Files.newOutputStream(tmpPath))) {
+                ConlluSnapshotCodec.encode(sentences, language, pipelineFingerprint, out);
+            }
+            Files.move(tmpPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            log.info(String.format("Written %d sentences to snapshot: '%s'", sentences.size(), snapshotPath));
+        } catch (Exception e) {
+            log.warn(String.format("Cannot write snapshot: '%s'", snapshotPath), e);
+            Try.run(() -> Files.deleteIfExists(tmpPath));
+        }
+    }
+
+    private static Seq<Class<?>> withNestedClasses(Class<?> cls) {
+        // nested classes (in example builders and helpers of the parser) are compiled to separate class files
+        return Vector.<Class<?>>of(cls).appendAll(Vector.of(cls.getDeclaredClasses()).flatMap(ConlluSentenceSnapshot::withNestedClasses));
+    }
+
+    @SneakyThrows
+    private static long computePipelineFingerprint(Seq<Class<?>> classes) {
+        // bytecode of classes which produce the sentences, any change of them invalidates snapshots
+        var crc = new CRC32();
+        for (var cls : classes) {
+            crc.update(cls.getName().getBytes(StandardCharsets.UTF_8));
+            var classFileName = cls.getName().substring(cls.getName().lastIndexOf('.') + 1) + ".class";
+            try (var in = cls.getResourceAsStream(classFileName)) {
+                if (in != null) {
+                    crc.update(in.readAllBytes());
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    @SneakyThrows
+    private ByteBuffer readBuffer(Path snapshotPath) {
+        try (var channel = FileChannel.open(snapshotPath)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (UnsupportedOperationException e) {
+            // file systems which do not support memory mapping (e.g. in-memory)
+            return ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import opennlpmodgen.tools.conllu.ConlluPOSTag;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@UtilityClass
+public class ConlluSnapshotCodec {
+    // layout: magic, format version, pipeline fingerprint, language, string table, sentences
+    // every string (text, form, lemma, unknown pos tag) is stored once in the table and referenced by index
+    // known pos tags are stored as ConlluPOSTag ordinals
+    // the version must be increased when the layout changes
+    // changes of parsing/transformation/normalization code are detected by the pipeline fingerprint (see ConlluSentenceSnapshot)
+    // the version must also be increased when a library upgrade changes the result of normalization (lucene analyzers)
+    private static final int MAGIC = 0x434f4e4c;
+    private static final int VERSION = 1;
+    private static final byte UNKNOWN_POS_TAG = -1;
+    private static final ConlluPOSTag[] POS_TAGS = ConlluPOSTag.values();
+
+    @SneakyThrows
+    public static void encode(@NonNull Seq<ConlluSentence> sentences, @NonNull String language, long pipelineFingerprint, @NonNull OutputStream out) {
+        var strings = new LinkedHashMap<String, Integer>();
+        sentences.forEach(sentence -> collectStrings(sentence, strings));
+        var data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(pipelineFingerprint);
+        writeString(data, language);
+        data.writeInt(strings.size());
+        for (var string : strings.keySet()) {
+            writeString(data, string);
+        }
+        data.writeInt(sentences.size());
+        for (var sentence : sentences) {
+            data.writeInt(strings.get(sentence.getText()));
+            writeWords(data, sentence.getWords(), strings);
+        }
+        data.flush();
+    }
+
+    public static Option<Seq<ConlluSentence>> decode(@NonNull ByteBuffer buffer, @NonNull String language, long pipelineFingerprint) {
+        // snapshot of other format, pipeline or language is ignored, sentences are parsed again
+        if (buffer.remaining() < 16 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != pipelineFingerprint || !readString(buffer).equals(language)) {
+            return Option.none();
+        }
+        var strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+        int sentenceCount = buffer.getInt();
+        var sentences = new ArrayList<ConlluSentence>(sentenceCount);
+        for (int i = 0; i < sentenceCount; i++) {
+            var text = strings[buffer.getInt()];
+            sentences.add(new ConlluSentence(text, readWords(buffer, strings)));
+        }
+        return Option.some(Vector.ofAll(sentences));
+    }
+
+    private static void collectStrings(ConlluSentence sentence, Map<String, Integer> strings) {
+        strings.putIfAbsent(sentence.getText(), strings.size());
+        sentence.getWords().forEach(word -> collectStrings(word, strings));
+    }
+
+    private static void collectStrings(ConlluWordLine word, Map<String, Integer> strings) {
+        strings.putIfAbsent(word.getForm(), strings.size());
+        strings.putIfAbsent(word.getLemma(), strings.size());
+        if (getPosTagOrdinal(word.getPosTag()) == UNKNOWN_POS_TAG) {
+            strings.putIfAbsent(word.getPosTag(), strings.size());
+        }
+        word.getSubWords().forEach(subWord -> collectStrings(subWord, strings));
+    }
+
+    private static void writeWords(DataOutputStream data, Seq<ConlluWordLine> words, Map<String, Integer> strings) throws IOException {
+        data.writeInt(words.size());
+        for (var word : words) {
+            data.writeInt(word.getStartId());
+            data.writeInt(word.getEndId());
+            data.writeInt(strings.get(word.getForm()));
+            if (word.isCompound()) {
+                writeWords(data, word.getSubWords(), strings);
+            } else {
+                data.writeInt(strings.get(word.getLemma()));
+                writePosTag(data, word.getPosTag(), strings);
+            }
+        }
+    }
+
+    private static void writePosTag(DataOutputStream data, String posTag, Map<String, Integer> strings) throws IOException {
+        var ordinal = getPosTagOrdinal(posTag);
+        data.writeByte(ordinal);
+        if (ordinal == UNKNOWN_POS_TAG) {
+            data.writeInt(strings.get(posTag));
+        }
+    }
+
+    private static byte getPosTagOrdinal(String posTag) {
+        for (var tag : POS_TAGS) {
+            if (tag.name().equals(posTag)) {
+                return (byte) tag.ordinal();
+            }
+        }
+        return UNKNOWN_POS_TAG;
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        var bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static Seq<ConlluWordLine> readWords(ByteBuffer buffer, String[] strings) {
+        int wordCount = buffer.getInt();
+        var words = new ArrayList<ConlluWordLine>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            int startId = buffer.getInt();
+            int endId = buffer.getInt();
+            var form = strings[buffer.getInt()];
+            words.add(startId != endId
+                    ? new ConlluWordLine(startId, endId, form, readWords(buffer, strings))
+                    : new ConlluWordLine(startId, form, strings[buffer.getInt()], readPosTag(buffer, strings)));
+        }
+        return Vector.ofAll(words);
+    }
+
+    private static String readPosTag(ByteBuffer buffer, String[] strings) {
+        var ordinal = buffer.get();
+        return ordinal == UNKNOWN_POS_TAG ? strings[buffer.getInt()] : POS_TAGS[ordinal].name();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import lombok.NonNull;
+import lombok.Value;
+
+@Value
+public class ConlluValidation {
+    // results of validation checks as bit flags, see ConlluValidatorHelper
+    private final int flags;
+    // start offsets of word forms in the sentence text, empty if forms do not cover the text
+    @NonNull
+    private final int[] formOffsets;
+
+    public boolean hasFlags(int requiredFlags) {
+        return (flags & requiredFlags) == requiredFlags;
+    }
+}
@@ -15,12 +15,14 @@ package opennlpmodgen.tools.conllu.transformer;
 
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
+import lombok.Getter;
 import lombok.NonNull;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ConlluTransformers {
+    @Getter
     private final Seq<ConlluTransformer> transformers;
 
     public ConlluTransformers(@NonNull ConlluTransformer... transformers) {
@@ -21,6 +21,8 @@ import opennlpmodgen.tools.conllu.parser.ConlluWordLine;
 import opennlpmodgen.tools.util.TextNormalizer;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 @Component
@@ -29,12 +31,31 @@ public class ConlluNormalizer {
     @NonNull
     private final TextNormalizer textNormalizer;
 
-    public ConlluSentence normalizeSentence(@NonNull ConlluSentence sentence, @NonNull String language) {
-        return normalize(sentence, text -> textNormalizer.normalizeText(text, language));
+    public ConlluSentence normalizeSentence(@NonNull ConlluSentence sentence, @NonNull String language, @NonNull ConlluStringInterner interner) {
+        // sentence text does not repeat, it is normalized without caching
+        var normalizedText = textNormalizer.normalizeUniqueText(sentence.getText(), language);
+        // every distinct form and lemma is normalized once, results are looked up by the original text
+        var normalizedTexts = new HashMap<String, String>();
+        sentence.getWords().forEach(word -> collectTexts(word, normalizedTexts, language));
+        // the same instance is returned if normalization did not change anything
+        if (normalizedText.equals(sentence.getText()) && normalizedTexts.entrySet().stream().allMatch(entry -> entry.getKey().equals(entry.getValue()))) {
+            return sentence;
+        }
+        return new ConlluSentence(normalizedText, normalize(sentence.getWords(), text -> interner.intern(normalizedTexts.get(text))));
     }
 
-    private ConlluSentence normalize(ConlluSentence sentence, Function<String, String> textConverter) {
-        return new ConlluSentence(textConverter.apply(sentence.getText()), normalize(sentence.getWords(), textConverter));
+    public void clearCache(@NonNull String language) {
+        // all sentences of the language are normalized, remembered results are not needed anymore
+        textNormalizer.clearCache(language);
+    }
+
+    private void collectTexts(ConlluWordLine word, Map<String, String> normalizedTexts, String language) {
+        normalizedTexts.computeIfAbsent(word.getForm(), text -> textNormalizer.normalizeText(text, language));
+        if (word.isCompound()) {
+            word.getSubWords().forEach(subWord -> collectTexts(subWord, normalizedTexts, language));
+        } else {
+            normalizedTexts.computeIfAbsent(word.getLemma(), text -> textNormalizer.normalizeText(text, language));
+        }
     }
 
     private Seq<ConlluWordLine> normalize(Seq<ConlluWordLine> words, Function<String, String> textConverter) {
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.util;
+
+import lombok.NonNull;
+import lombok.extern.apachecommons.CommonsLog;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@CommonsLog
+public class ConlluStringInterner {
+    // identical forms, lemmas and pos tags share one instance within a corpus
+    // a new instance is created for every parsed corpus, strings are released together with it
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+    private final LongAdder totalCount = new LongAdder();
+
+    public String intern(@NonNull String string) {
+        totalCount.increment();
+        var internedString = strings.putIfAbsent(string, string);
+        return internedString != null ? internedString : string;
+    }
+
+    public long getUniqueCount() {
+        return strings.size();
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public void logStatistics(@NonNull String language) {
+        var uniqueCount = getUniqueCount();
+        var totalCount = getTotalCount();
+        log.info(String.format("Interned strings, language: '%s', unique: %d, total: %d, unique ratio: %.02f%%",
+                language, uniqueCount, totalCount, totalCount > 0 ? 100.0 * uniqueCount / totalCount : 0.0));
+    }
+}
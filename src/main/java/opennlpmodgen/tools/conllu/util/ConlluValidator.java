@@ -16,19 +16,37 @@ package opennlpmodgen.tools.conllu.util;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
+import opennlpmodgen.tools.conllu.parser.ConlluValidation;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class ConlluValidator {
+    private static final int TOKENIZATION_FLAGS = ConlluValidatorHelper.NOT_EMPTY
+            | ConlluValidatorHelper.FORMS_VALID
+            | ConlluValidatorHelper.TEXT_EQUALS_CONCATENATED_FORMS;
+    private static final int LEMMATIZATION_FLAGS = TOKENIZATION_FLAGS
+            | ConlluValidatorHelper.LEMMAS_VALID
+            | ConlluValidatorHelper.POS_TAGS_VALID;
+
     @NonNull
     private final ConlluValidatorHelper helper;
 
+    public ConlluValidation validate(@NonNull ConlluSentence sentence) {
+        // validation is computed once and remembered by the sentence, every converter uses the same result
+        return sentence.getValidation(helper::validate);
+    }
+
     public boolean isValidForTokenization(@NonNull ConlluSentence sentence) {
-        return helper.notEmpty(sentence) && helper.formsValid(sentence) && helper.textEqualsConcatenatedForms(sentence);
+        return validate(sentence).hasFlags(TOKENIZATION_FLAGS);
     }
 
     public boolean isValidForLemmatization(@NonNull ConlluSentence sentence) {
-        return isValidForTokenization(sentence) && helper.lemmasValid(sentence) && helper.posTagsValid(sentence);
+        return validate(sentence).hasFlags(LEMMATIZATION_FLAGS);
+    }
+
+    public int[] getFormOffsets(@NonNull ConlluSentence sentence) {
+        // start offsets of top-level words, empty if forms do not cover the sentence text
+        return validate(sentence).getFormOffsets();
     }
 }
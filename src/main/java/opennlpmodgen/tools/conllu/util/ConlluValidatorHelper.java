@@ -14,33 +14,67 @@
 package opennlpmodgen.tools.conllu.util;
 
 import io.vavr.collection.HashSet;
-import io.vavr.collection.Seq;
 import io.vavr.collection.Set;
-import io.vavr.collection.Vector;
-import io.vavr.control.Option;
 import lombok.NonNull;
-import opennlp.tools.util.Span;
 import opennlpmodgen.tools.conllu.ConlluPOSTag;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
+import opennlpmodgen.tools.conllu.parser.ConlluValidation;
 import opennlpmodgen.tools.conllu.parser.ConlluWordLine;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ConlluValidatorHelper {
+    // results of all checks are computed in a single walk over words and returned as flags
+    public static final int VALIDATED = 1;
+    public static final int NOT_EMPTY = 1 << 1;
+    public static final int FORMS_VALID = 1 << 2;
+    public static final int TEXT_EQUALS_CONCATENATED_FORMS = 1 << 3;
+    public static final int LEMMAS_VALID = 1 << 4;
+    public static final int POS_TAGS_VALID = 1 << 5;
+    private static final int WORD_FLAGS = FORMS_VALID | LEMMAS_VALID | POS_TAGS_VALID;
     private static final Set<String> POS_TAGS = HashSet.of(ConlluPOSTag.values()).map(ConlluPOSTag::name);
 
+    public ConlluValidation validate(@NonNull ConlluSentence sentence) {
+        var text = sentence.getText();
+        var flags = VALIDATED | WORD_FLAGS | (notEmpty(sentence) ? NOT_EMPTY : 0);
+        // start offsets of forms are recorded during the walk, so token spans never search the text again
+        var formOffsets = new int[sentence.getWords().size()];
+        // end of the text covered by forms, -1 if forms do not follow each other in the text
+        var cursor = 0;
+        var index = 0;
+        for (var word : sentence.getWords()) {
+            flags &= validateWord(word) | ~WORD_FLAGS;
+            cursor = cursor >= 0 ? matchForm(text, cursor, word.getForm()) : -1;
+            formOffsets[index++] = cursor - word.getForm().length();
+        }
+        return cursor == text.length()
+                ? new ConlluValidation(flags | TEXT_EQUALS_CONCATENATED_FORMS, formOffsets)
+                : new ConlluValidation(flags, new int[0]);
+    }
+
+    private int validateWord(ConlluWordLine word) {
+        if (!word.isCompound()) {
+            return validateSimpleWord(word);
+        }
+        var flags = formValid(word.getForm()) ? WORD_FLAGS : WORD_FLAGS & ~FORMS_VALID;
+        for (var subWord : word.getSubWords()) {
+            flags &= validateSimpleWord(subWord);
+        }
+        return flags;
+    }
+
+    private int validateSimpleWord(ConlluWordLine word) {
+        return (formValid(word.getForm()) ? FORMS_VALID : 0)
+                | (lemmaValid(word.getLemma()) ? LEMMAS_VALID : 0)
+                | (posTagValid(word.getPosTag()) ? POS_TAGS_VALID : 0);
+    }
+
     public boolean notEmpty(@NonNull ConlluSentence sentence) {
         return !sentence.getText().isBlank() && !sentence.getWords().isEmpty();
     }
 
     public boolean formsValid(@NonNull ConlluSentence sentence) {
-        return sentence.getWords().flatMap(this::getForms).forAll(this::formValid);
-    }
-
-    private Seq<String> getForms(ConlluWordLine word) {
-        return word.isCompound()
-                ? word.getSubWords().map(ConlluWordLine::getForm).prepend(word.getForm())
-                : Vector.of(word.getForm());
+        return validate(sentence).hasFlags(FORMS_VALID);
     }
 
     private boolean formValid(String form) {
@@ -48,13 +82,7 @@ public class ConlluValidatorHelper {
     }
 
     public boolean lemmasValid(@NonNull ConlluSentence sentence) {
-        return sentence.getWords().flatMap(this::getLemmas).forAll(this::lemmaValid);
-    }
-
-    private Seq<String> getLemmas(ConlluWordLine word) {
-        return word.isCompound()
-                ? word.getSubWords().map(ConlluWordLine::getLemma)
-                : Vector.of(word.getLemma());
+        return validate(sentence).hasFlags(LEMMAS_VALID);
     }
 
     private boolean lemmaValid(String lemma) {
@@ -62,13 +90,7 @@ public class ConlluValidatorHelper {
     }
 
     public boolean posTagsValid(@NonNull ConlluSentence sentence) {
-        return sentence.getWords().flatMap(this::getPosTags).forAll(this::posTagValid);
-    }
-
-    private Seq<String> getPosTags(ConlluWordLine word) {
-        return word.isCompound()
-                ? word.getSubWords().map(ConlluWordLine::getPosTag)
-                : Vector.of(word.getPosTag());
+        return validate(sentence).hasFlags(POS_TAGS_VALID);
     }
 
     private boolean posTagValid(String posTag) {
@@ -76,35 +98,18 @@ public class ConlluValidatorHelper {
     }
 
     public boolean textEqualsConcatenatedForms(@NonNull ConlluSentence sentence) {
-        var text = sentence.getText();
-        var coveredTextBoundsOpt = sentence.getWords()
-                .map(ConlluWordLine::getForm)
-                .foldLeft(Option.some(new Span(0, 0)), (prevSpan, form) -> getCoveredTextBounds(text, prevSpan, form));
-        return coveredTextBoundsOpt.isDefined()
-                && coveredTextBoundsOpt.get().getStart() == 0
-                && coveredTextBoundsOpt.get().getEnd() == text.length();
-    }
-
-    private Option<Span> getCoveredTextBounds(String text, Option<Span> prevSpanOpt, String form) {
-        return prevSpanOpt.flatMap(prevSpan -> getCoveredTextBounds(text, prevSpan, form));
+        return validate(sentence).hasFlags(TEXT_EQUALS_CONCATENATED_FORMS);
     }
 
-    private Option<Span> getCoveredTextBounds(String text, Span prevSpan, String form) {
-        var currentStartIdx = text.indexOf(form, prevSpan.getEnd());
-        if (currentStartIdx < 0) {
-            // word not found
-            return Option.none();
+    private int matchForm(String text, int cursor, String form) {
+        // end of the form if it starts at the cursor or after a single space, -1 otherwise
+        // the first form must start at the beginning of the text
+        if (text.startsWith(form, cursor)) {
+            return cursor + form.length();
         }
-        if (!isAdjacentOrSeparatedBySingleSpace(text, prevSpan.getEnd(), currentStartIdx)) {
-            // not adjacent
-            return Option.none();
+        if (cursor > 0 && cursor < text.length() && text.charAt(cursor) == ' ' && text.startsWith(form, cursor + 1)) {
+            return cursor + 1 + form.length();
         }
-        var spanStart = prevSpan.getEnd() == 0 ? currentStartIdx : prevSpan.getStart();
-        var spanEnd = currentStartIdx + form.length();
-        return Option.some(new Span(spanStart, spanEnd));
-    }
-
-    private boolean isAdjacentOrSeparatedBySingleSpace(String text, int previousEndIdx, int currentStartIdx) {
-        return previousEndIdx == currentStartIdx || previousEndIdx + 1 == currentStartIdx && text.charAt(previousEndIdx) == ' ';
+        return -1;
     }
 }
@@ -13,23 +13,36 @@
  */
 package opennlpmodgen.tools.model;
 
+import io.vavr.Function0;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import io.vavr.Tuple4;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
 import io.vavr.control.Option;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.apachecommons.CommonsLog;
 import opennlp.tools.util.model.BaseModel;
 import opennlpmodgen.tools.model.train.ModelEvaluator;
 import opennlpmodgen.tools.model.train.ModelTrainer;
 import opennlpmodgen.tools.model.util.EvalReportPersister;
+import opennlpmodgen.tools.model.util.ForkedTrainingRunner;
 import opennlpmodgen.tools.model.util.ModelPersister;
+import opennlpmodgen.tools.model.util.SampleSpiller;
 import opennlpmodgen.tools.model.util.SampleSplitter;
+import opennlpmodgen.tools.model.util.SampleSubsampler;
+import opennlpmodgen.tools.model.util.SpilledSamples;
+import opennlpmodgen.tools.model.util.TrainingExecutor;
 
 import java.io.Serializable;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @RequiredArgsConstructor
 @CommonsLog
@@ -44,54 +57,134 @@ public class ModelProcessor<M extends BaseModel, S extends Serializable> {
     private final ModelPersister modelPersister;
     @NonNull
     private final EvalReportPersister evalReportPersister;
+    @NonNull
+    private final TrainingExecutor trainingExecutor;
+    @NonNull
+    private final SampleSpiller sampleSpiller;
+    @NonNull
+    private final SampleSubsampler sampleSubsampler;
+    @NonNull
+    private final ForkedTrainingRunner forkedTrainingRunner;
 
     public void processModel(
-            @NonNull Seq<S> samples,
+            @NonNull Function0<Iterator<S>> samples,
             @NonNull Seq<String> algorithms,
             @NonNull String language,
             @NonNull Path modelPath,
             @NonNull Path reportPath) {
         var splittedSamples = splitter.splitSamples(samples);
-        var trainSamples = splittedSamples._1;
-        var evalSamples = splittedSamples._2;
-        var bestModelInfoOpt = trainEvaluateBestModel(algorithms, language, trainSamples, evalSamples);
-        if (bestModelInfoOpt.isDefined()) {
-            var algorithm = bestModelInfoOpt.get()._1;
-            var model = bestModelInfoOpt.get()._2;
-            var evaluationScore = bestModelInfoOpt.get()._3;
-            var misclassifiedDetails = bestModelInfoOpt.get()._4;
-            writeModel(model, modelPath);
-            writeEvalReportPath(evaluationScore, trainSamples.size(), evalSamples.size(), algorithm, model, misclassifiedDetails, reportPath);
-        } else {
-            log.info("Insufficient training data to compute model");
+        try (var trainSamples = sampleSpiller.spillSamples(splittedSamples._1);
+             var evalSamples = sampleSpiller.spillSamples(splittedSamples._2)) {
+            log.info(String.format("Training sample count: %d, evaluation sample count: %d", trainSamples.getSize(), evalSamples.getSize()));
+            // algorithms abandoned because of exceeded training budget, they are listed in the evaluation report
+            var skippedAlgorithms = new ConcurrentLinkedQueue<String>();
+            var bestModelInfoOpt = trainEvaluateBestModel(algorithms, language, trainSamples, evalSamples, skippedAlgorithms);
+            if (bestModelInfoOpt.isDefined()) {
+                var algorithm = bestModelInfoOpt.get()._1;
+                var model = bestModelInfoOpt.get()._2;
+                var evaluationScore = bestModelInfoOpt.get()._3;
+                var misclassifiedDetails = bestModelInfoOpt.get()._4;
+                writeModel(model, modelPath);
+                writeEvalReportPath(evaluationScore, trainSamples.getSize(), evalSamples.getSize(), algorithm, Vector.ofAll(skippedAlgorithms).sorted(), model, misclassifiedDetails, reportPath);
+            } else if (skippedAlgorithms.isEmpty()) {
+                log.info("Insufficient training data to compute model");
+            } else {
+                // no report is written without a model, skipped algorithms would be lost otherwise
+                log.warn(String.format("No model computed within training budget, language: '%s', skipped algorithms: %s",
+                        language, Vector.ofAll(skippedAlgorithms).sorted().mkString(", ")));
+            }
+        }
+    }
+
+    private Option<Tuple4<String, M, Double, String>> trainEvaluateBestModel(Seq<String> algorithms, String language, SpilledSamples<S> trainSamples, SpilledSamples<S> evalSamples, Queue<String> skippedAlgorithms) {
+        // successive halving: algorithms are trained on a growing fraction of training samples
+        // and only the better half of them goes to the next round, survivors are trained on all samples
+        var candidates = algorithms;
+        for (var fraction : sampleSubsampler.getSelectionFractions()) {
+            if (candidates.size() <= 1) {
+                break;
+            }
+            log.info(String.format("Selecting algorithms, language: '%s', fraction of training samples: %s, algorithms: %s", language, fraction, candidates.mkString(", ")));
+            var modelInfos = trainEvaluateModels(candidates, language, trainSamples, fraction, evalSamples, skippedAlgorithms);
+            if (modelInfos.nonEmpty()) {
+                candidates = rankModels(modelInfos).take((candidates.size() + 1) / 2).map(Tuple4::_1);
+            }
         }
+        return selectBestModel(trainEvaluateModels(candidates, language, trainSamples, 1.0, evalSamples, skippedAlgorithms));
+    }
+
+    private Seq<Tuple4<String, M, Double, String>> trainEvaluateModels(Seq<String> algorithms, String language, SpilledSamples<S> trainSamples, double fraction, SpilledSamples<S> evalSamples, Queue<String> skippedAlgorithms) {
+        // every algorithm is trained and evaluated as a separate task, tasks may run concurrently
+        // every task reads samples with its own stream
+        Seq<Callable<Option<Tuple4<String, M, Double, String>>>> trainings = algorithms
+                .map(algorithm -> () -> trainEvaluateModel(algorithm, language, trainSamples, fraction, evalSamples, skippedAlgorithms));
+        var modelInfos = trainingExecutor.executeTrainings(trainings);
+        return modelInfos.flatMap(modelInfoOpt -> modelInfoOpt);
     }
 
-    private Option<Tuple4<String, M, Double, String>> trainEvaluateBestModel(Seq<String> algorithms, String language, Seq<S> trainSamples, Seq<S> evalSamples) {
+    private Option<Tuple4<String, M, Double, String>> trainEvaluateModel(String algorithm, String language, SpilledSamples<S> trainSamples, double fraction, SpilledSamples<S> evalSamples, Queue<String> skippedAlgorithms) {
+        return trainModel(algorithm, language, trainSamples, fraction, skippedAlgorithms).map(model -> {
+            var evaluationInfo = evaluateModel(algorithm, language, model, evalSamples);
+            return Tuple.of(algorithm, model, evaluationInfo._1, evaluationInfo._2);
+        });
+    }
+
+    private Seq<Tuple4<String, M, Double, String>> rankModels(Seq<Tuple4<String, M, Double, String>> modelInfos) {
+        // sorting is stable, the first algorithm is ranked higher if scores are equal
+        return modelInfos.sortBy(modelInfo -> -modelInfo._3);
+    }
+
+    private Option<Tuple4<String, M, Double, String>> selectBestModel(Seq<Tuple4<String, M, Double, String>> modelInfos) {
+        // model infos are ordered like algorithms, the first algorithm wins if scores are equal
         var bestModelInfoOpt = Option.<Tuple4<String, M, Double, String>>none();
-        for (var algorithm : algorithms) {
-            var modelOpt = trainModel(algorithm, language, trainSamples);
-            if (modelOpt.isDefined()) {
-                var evaluationInfo = evaluateModel(algorithm, language, modelOpt.get(), evalSamples);
-                var evaluationScore = evaluationInfo._1;
-                var misclassifiedDetails = evaluationInfo._2;
-                if (bestModelInfoOpt.isEmpty() || evaluationScore > bestModelInfoOpt.get()._3) {
-                    bestModelInfoOpt = Option.some(Tuple.of(algorithm, modelOpt.get(), evaluationScore, misclassifiedDetails));
-                }
+        for (var modelInfo : modelInfos) {
+            if (bestModelInfoOpt.isEmpty() || modelInfo._3 > bestModelInfoOpt.get()._3) {
+                bestModelInfoOpt = Option.some(modelInfo);
             }
         }
         return bestModelInfoOpt;
     }
 
-    private Option<M> trainModel(String algorithm, String language, Seq<S> trainSamples) {
-        log.info(String.format("Training model, language: '%s', trainer: '%s', algorithm: '%s'", language, trainer.getClass().getSimpleName(), algorithm));
-        return trainer.trainModel(algorithm, language, trainSamples);
+    @SneakyThrows
+    private Option<M> trainModel(String algorithm, String language, SpilledSamples<S> trainSamples, double fraction, Queue<String> skippedAlgorithms) {
+        log.info(String.format("Training model, language: '%s', trainer: '%s', algorithm: '%s', fraction of training samples: %s", language, trainer.getClass().getSimpleName(), algorithm, fraction));
+        var modelOpt = forkedTrainingRunner.isEnabled()
+                ? trainForkedModel(algorithm, language, trainSamples, fraction)
+                : trainModelWithinBudget(algorithm, language, trainSamples, fraction);
+        if (modelOpt.isLeft()) {
+            // remaining algorithms are trained, the best model found within budget wins
+            log.info(String.format("Training skipped, language: '%s', algorithm: '%s', reason: %s", language, algorithm, modelOpt.getLeft()));
+            skippedAlgorithms.add(String.format("%s (%s)", algorithm, modelOpt.getLeft()));
+            return Option.none();
+        }
+        return modelOpt.get();
     }
 
-    private Tuple2<Double, String> evaluateModel(String algorithm, String language, M model, Seq<S> evalSamples) {
+    private Either<String, Option<M>> trainForkedModel(String algorithm, String language, SpilledSamples<S> trainSamples, double fraction) {
+        // worker process enforces the training budget, it is killed when the budget is exceeded
+        // the worker reads spilled samples directly and takes the fraction of them itself
+        return forkedTrainingRunner.trainModel(trainer, algorithm, language, trainSamples, fraction);
+    }
+
+    private Either<String, Option<M>> trainModelWithinBudget(String algorithm, String language, SpilledSamples<S> trainSamples, double fraction) {
+        // a run abandoned because of exceeded budget keeps reading samples in the background
+        // so the stream is closed by the training itself when it really ends
+        var trainStream = trainSamples.openStream();
+        return trainingExecutor.executeWithinBudget(() -> {
+            try (trainStream) {
+                return trainer.trainModel(algorithm, language, sampleSubsampler.subsampleSamples(trainStream, fraction));
+            }
+        });
+    }
+
+    @SneakyThrows
+    private Tuple2<Double, String> evaluateModel(String algorithm, String language, M model, SpilledSamples<S> evalSamples) {
         log.info(String.format("Evaluating model, language: '%s', evaluator: '%s', algorithm: '%s'", language, evaluator.getClass().getSimpleName(), algorithm));
-        var evaluationInfo = evaluator.evaluateModel(model, evalSamples);
-        log.info(String.format("Evaluation score: %s", evaluationInfo._1));
+        Tuple2<Double, String> evaluationInfo;
+        try (var evalStream = evalSamples.openStream()) {
+            evaluationInfo = evaluator.evaluateModel(model, evalStream);
+        }
+        log.info(String.format("Evaluation score: %s, algorithm: '%s'", evaluationInfo._1, algorithm));
         return evaluationInfo;
     }
 
@@ -100,8 +193,8 @@ public class ModelProcessor<M extends BaseModel, S extends Serializable> {
         modelPersister.writeModel(model, modelPath);
     }
 
-    private void writeEvalReportPath(double evaluationScore, int trainSamplesSize, int evalSamplesSize, String algorithm, M model, String misclassifiedDetails, Path reportPath) {
+    private void writeEvalReportPath(double evaluationScore, int trainSamplesSize, int evalSamplesSize, String algorithm, Seq<String> skippedAlgorithms, M model, String misclassifiedDetails, Path reportPath) {
         log.info(String.format("Writing evaluation report to file: '%s'", reportPath));
-        evalReportPersister.writeEvaluationReport(evaluationScore, trainSamplesSize, evalSamplesSize, algorithm, model, misclassifiedDetails, reportPath);
+        evalReportPersister.writeEvaluationReport(evaluationScore, trainSamplesSize, evalSamplesSize, algorithm, skippedAlgorithms, model, misclassifiedDetails, reportPath);
     }
 }
@@ -19,8 +19,12 @@ import opennlp.tools.sentdetect.SentenceSample;
 import opennlpmodgen.tools.model.train.SentenceModelEvaluator;
 import opennlpmodgen.tools.model.train.SentenceModelTrainer;
 import opennlpmodgen.tools.model.util.EvalReportPersister;
+import opennlpmodgen.tools.model.util.ForkedTrainingRunner;
 import opennlpmodgen.tools.model.util.ModelPersister;
+import opennlpmodgen.tools.model.util.SampleSpiller;
 import opennlpmodgen.tools.model.util.SampleSplitter;
+import opennlpmodgen.tools.model.util.SampleSubsampler;
+import opennlpmodgen.tools.model.util.TrainingExecutor;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -30,7 +34,11 @@ public class SentenceModelProcessor extends ModelProcessor<SentenceModel, Senten
             @NonNull SentenceModelTrainer trainer,
             @NonNull SentenceModelEvaluator evaluator,
             @NonNull ModelPersister modelPersister,
-            @NonNull EvalReportPersister evalReportPersister) {
-        super(splitter, trainer, evaluator, modelPersister, evalReportPersister);
+            @NonNull EvalReportPersister evalReportPersister,
+            @NonNull TrainingExecutor trainingExecutor,
+            @NonNull SampleSpiller sampleSpiller,
+            @NonNull SampleSubsampler sampleSubsampler,
+            @NonNull ForkedTrainingRunner forkedTrainingRunner) {
+        super(splitter, trainer, evaluator, modelPersister, evalReportPersister, trainingExecutor, sampleSpiller, sampleSubsampler, forkedTrainingRunner);
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import lombok.NonNull;
+import opennlp.tools.lemmatizer.LemmaSample;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LemmaSampleCodec implements SampleCodec<LemmaSample> {
+    @Override
+    public Class<LemmaSample> getSampleClass() {
+        return LemmaSample.class;
+    }
+
+    @Override
+    public void encode(@NonNull LemmaSample sample, @NonNull SampleDataOutput output) {
+        output.writeStrings(sample.getTokens());
+        output.writeTags(sample.getTags());
+        output.writeStrings(sample.getLemmas());
+    }
+
+    @Override
+    public LemmaSample decode(@NonNull SampleDataInput input) {
+        var tokens = input.readStrings();
+        var tags = input.readTags();
+        return new LemmaSample(tokens, tags, input.readStrings());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import lombok.NonNull;
+import opennlp.tools.postag.POSSample;
+import org.springframework.stereotype.Component;
+
+@Component
+public class POSSampleCodec implements SampleCodec<POSSample> {
+    @Override
+    public Class<POSSample> getSampleClass() {
+        return POSSample.class;
+    }
+
+    @Override
+    public void encode(@NonNull POSSample sample, @NonNull SampleDataOutput output) {
+        output.writeStrings(sample.getSentence());
+        output.writeTags(sample.getTags());
+        // additional context is optional, its row count is written increased by one, 0 means no context
+        var additionalContext = sample.getAdditionalContext();
+        output.writeVarInt(additionalContext != null ? additionalContext.length + 1 : 0);
+        if (additionalContext != null) {
+            for (var contextRow : additionalContext) {
+                output.writeStrings(contextRow);
+            }
+        }
+    }
+
+    @Override
+    public POSSample decode(@NonNull SampleDataInput input) {
+        var sentence = input.readStrings();
+        var tags = input.readTags();
+        var contextRows = input.readVarInt();
+        if (contextRows == 0) {
+            return new POSSample(sentence, tags);
+        }
+        var additionalContext = new String[contextRows - 1][];
+        for (var i = 0; i < additionalContext.length; i++) {
+            additionalContext[i] = input.readStrings();
+        }
+        return new POSSample(sentence, tags, additionalContext);
+    }
+}
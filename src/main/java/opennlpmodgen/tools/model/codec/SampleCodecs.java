@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+@Component
+public class SampleCodecs {
+    private final Map<Class<?>, SampleCodec<?>> codecs;
+
+    public SampleCodecs(@NonNull SampleCodec<?>... codecs) {
+        this.codecs = Vector.of(codecs).toMap(SampleCodec::getSampleClass, codec -> codec);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S extends Serializable> Option<SampleCodec<S>> getCodec(@NonNull Class<?> sampleClass) {
+        return codecs.get(sampleClass).map(codec -> (SampleCodec<S>) codec);
+    }
+}
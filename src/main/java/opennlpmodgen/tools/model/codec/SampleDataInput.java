@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import opennlp.tools.util.Span;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SampleDataInput implements Closeable {
+    // reads data written by SampleDataOutput, the tag dictionary is rebuilt while reading
+    private final InputStream input;
+    private final List<String> tags = new ArrayList<>();
+
+    public SampleDataInput(@NonNull InputStream input) {
+        this.input = input;
+    }
+
+    @SneakyThrows
+    public int readVarInt() {
+        var value = 0;
+        for (var shift = 0; ; shift += 7) {
+            var b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    @SneakyThrows
+    private int readByte() {
+        var b = input.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of sample data");
+        }
+        return b;
+    }
+
+    @SneakyThrows
+    public String readString() {
+        var length = readVarInt();
+        var bytes = input.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Unexpected end of sample data");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String[] readStrings() {
+        var values = new String[readVarInt()];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = readString();
+        }
+        return values;
+    }
+
+    public String readTag() {
+        var id = readVarInt();
+        if (id == 0) {
+            return null;
+        }
+        if (id == tags.size() + 1) {
+            tags.add(readString());
+        }
+        return tags.get(id - 1);
+    }
+
+    public String[] readTags() {
+        var values = new String[readVarInt()];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = readTag();
+        }
+        return values;
+    }
+
+    public Span[] readSpans() {
+        var spans = new Span[readVarInt()];
+        for (var i = 0; i < spans.length; i++) {
+            var start = readVarInt();
+            var end = readVarInt();
+            spans[i] = new Span(start, end, readTag());
+        }
+        return spans;
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        input.close();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import opennlp.tools.util.Span;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SampleDataOutput implements Closeable {
+    // integers are written as varints (7 bits per byte), strings as varint length and utf-8 bytes
+    // tags are written once, then they are referenced by their dictionary id
+    private final OutputStream output;
+    private final Map<String, Integer> tagIds = new HashMap<>();
+
+    public SampleDataOutput(@NonNull OutputStream output) {
+        this.output = output;
+    }
+
+    @SneakyThrows
+    public void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    @SneakyThrows
+    public void writeString(@NonNull String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        output.write(bytes);
+    }
+
+    public void writeStrings(@NonNull String[] values) {
+        writeVarInt(values.length);
+        for (var value : values) {
+            writeString(value);
+        }
+    }
+
+    public void writeTag(String tag) {
+        // 0 is null, otherwise dictionary id + 1, a new tag is followed by its value
+        if (tag == null) {
+            writeVarInt(0);
+            return;
+        }
+        var id = tagIds.get(tag);
+        if (id != null) {
+            writeVarInt(id + 1);
+        } else {
+            writeVarInt(tagIds.size() + 1);
+            tagIds.put(tag, tagIds.size());
+            writeString(tag);
+        }
+    }
+
+    public void writeTags(@NonNull String[] tags) {
+        writeVarInt(tags.length);
+        for (var tag : tags) {
+            writeTag(tag);
+        }
+    }
+
+    public void writeSpans(@NonNull Span[] spans) {
+        writeVarInt(spans.length);
+        for (var span : spans) {
+            writeVarInt(span.getStart());
+            writeVarInt(span.getEnd());
+            writeTag(span.getType());
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        output.close();
+    }
+}
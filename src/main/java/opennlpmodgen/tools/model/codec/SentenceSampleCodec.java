@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import lombok.NonNull;
+import opennlp.tools.sentdetect.SentenceSample;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SentenceSampleCodec implements SampleCodec<SentenceSample> {
+    @Override
+    public Class<SentenceSample> getSampleClass() {
+        return SentenceSample.class;
+    }
+
+    @Override
+    public void encode(@NonNull SentenceSample sample, @NonNull SampleDataOutput output) {
+        output.writeString(sample.getDocument());
+        output.writeSpans(sample.getSentences());
+    }
+
+    @Override
+    public SentenceSample decode(@NonNull SampleDataInput input) {
+        var document = input.readString();
+        return new SentenceSample(document, input.readSpans());
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import lombok.NonNull;
+import opennlp.tools.tokenize.TokenSample;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenSampleCodec implements SampleCodec<TokenSample> {
+    @Override
+    public Class<TokenSample> getSampleClass() {
+        return TokenSample.class;
+    }
+
+    @Override
+    public void encode(@NonNull TokenSample sample, @NonNull SampleDataOutput output) {
+        output.writeString(sample.getText());
+        output.writeSpans(sample.getTokenSpans());
+    }
+
+    @Override
+    public TokenSample decode(@NonNull SampleDataInput input) {
+        var text = input.readString();
+        return new TokenSample(text, input.readSpans());
+    }
+}
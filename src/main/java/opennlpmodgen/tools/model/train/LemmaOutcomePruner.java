@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.train;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import io.vavr.collection.Vector;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+import opennlp.tools.lemmatizer.LemmaSample;
+import opennlp.tools.lemmatizer.LemmatizerME;
+import opennlp.tools.util.FilterObjectStream;
+import opennlp.tools.util.ObjectStream;
+import opennlpmodgen.tools.util.Settings;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@CommonsLog
+public class LemmaOutcomePruner {
+    // lemmatizer outcomes (lemma edit scripts) occurring less often than the threshold are pruned, 1 means never
+    // samples containing a pruned outcome are dropped, their words are not trained with a wrong lemma
+    public static final String MIN_FREQUENCY_SETTING = "training.lemmatizer.outcome.min.frequency";
+    // only the most frequent outcomes are kept, 0 means no limit
+    // the limit may be given per language, in example: training.lemmatizer.outcome.max.count.de
+    public static final String MAX_COUNT_SETTING = "training.lemmatizer.outcome.max.count";
+    // a warning is logged if a larger share of samples is dropped because of pruned outcomes
+    public static final String MAX_DROPPED_SHARE_SETTING = "training.lemmatizer.outcome.max.dropped.share";
+
+    private final Settings settings;
+
+    public LemmaOutcomePruner(@NonNull Settings settings) {
+        this.settings = settings;
+    }
+
+    @SneakyThrows
+    public ObjectStream<LemmaSample> pruneOutcomes(@NonNull ObjectStream<LemmaSample> samples, @NonNull String language) {
+        var minFrequency = settings.getInt(MIN_FREQUENCY_SETTING, 1);
+        var maxCount = settings.getInt(MAX_COUNT_SETTING + "." + language, settings.getInt(MAX_COUNT_SETTING, 0));
+        if (minFrequency <= 1 && maxCount <= 0) {
+            return samples;
+        }
+        var outcomeCounts = countOutcomes(samples);
+        samples.reset();
+        var keptOutcomes = selectOutcomes(outcomeCounts, minFrequency, maxCount);
+        if (keptOutcomes.size() == outcomeCounts.size()) {
+            return samples;
+        }
+        var keptEvents = keptOutcomes.toVector().map(outcomeCounts::get).sum().longValue();
+        var allEvents = Vector.ofAll(outcomeCounts.values()).sum().longValue();
+        log.info(String.format("Pruning lemmatizer outcomes, language: '%s', outcomes: %d -> %d, words with pruned outcome: %d of %d",
+                language, outcomeCounts.size(), keptOutcomes.size(), allEvents - keptEvents, allEvents));
+        // whole samples are dropped, so more words are lost than the pruned outcomes alone
+        logDroppedSamples(samples, keptOutcomes, language);
+        samples.reset();
+        return new PrunedLemmaSampleStream(samples, keptOutcomes);
+    }
+
+    private void logDroppedSamples(ObjectStream<LemmaSample> samples, Set<String> keptOutcomes, String language) throws IOException {
+        long sampleCount = 0;
+        long tokenCount = 0;
+        long droppedSampleCount = 0;
+        long droppedTokenCount = 0;
+        for (var sample = samples.read(); sample != null; sample = samples.read()) {
+            sampleCount++;
+            tokenCount += sample.getTokens().length;
+            if (!hasKeptOutcomes(sample, keptOutcomes)) {
+                droppedSampleCount++;
+                droppedTokenCount += sample.getTokens().length;
+            }
+        }
+        log.info(String.format("Dropping lemmatizer samples with pruned outcome, language: '%s', samples: %d of %d, words: %d of %d",
+                language, droppedSampleCount, sampleCount, droppedTokenCount, tokenCount));
+        var maxDroppedShare = settings.getDouble(MAX_DROPPED_SHARE_SETTING, 0.1);
+        if (sampleCount > 0 && (double) droppedSampleCount / sampleCount > maxDroppedShare) {
+            log.warn(String.format("Too many lemmatizer samples dropped, language: '%s', dropped share: %.3f, maximal share: %.3f",
+                    language, (double) droppedSampleCount / sampleCount, maxDroppedShare));
+        }
+    }
+
+    private Map<String, Integer> countOutcomes(ObjectStream<LemmaSample> samples) throws IOException {
+        var counts = new HashMap<String, Integer>();
+        for (var sample = samples.read(); sample != null; sample = samples.read()) {
+            for (var outcome : encodeOutcomes(sample)) {
+                counts.merge(outcome, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private Set<String> selectOutcomes(Map<String, Integer> outcomeCounts, int minFrequency, int maxCount) {
+        var outcomes = Vector.ofAll(outcomeCounts.entrySet())
+                .filter(outcome -> outcome.getValue() >= minFrequency)
+                .sortBy(outcome -> -outcome.getValue())
+                .map(Map.Entry::getKey);
+        return HashSet.ofAll(maxCount > 0 ? outcomes.take(maxCount) : outcomes);
+    }
+
+    private static String[] encodeOutcomes(LemmaSample sample) {
+        return LemmatizerME.encodeLemmas(sample.getTokens(), sample.getLemmas());
+    }
+
+    private static boolean hasKeptOutcomes(LemmaSample sample, Set<String> keptOutcomes) {
+        for (var outcome : encodeOutcomes(sample)) {
+            if (!keptOutcomes.contains(outcome)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class PrunedLemmaSampleStream extends FilterObjectStream<LemmaSample, LemmaSample> {
+        private final Set<String> keptOutcomes;
+
+        PrunedLemmaSampleStream(ObjectStream<LemmaSample> samples, Set<String> keptOutcomes) {
+            super(samples);
+            this.keptOutcomes = keptOutcomes;
+        }
+
+        @Override
+        public LemmaSample read() throws IOException {
+            for (var sample = samples.read(); sample != null; sample = samples.read()) {
+                if (hasKeptOutcomes(sample, keptOutcomes)) {
+                    return sample;
+                }
+            }
+            return null;
+        }
+    }
+}
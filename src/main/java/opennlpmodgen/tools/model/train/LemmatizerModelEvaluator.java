@@ -15,7 +15,6 @@ package opennlpmodgen.tools.model.train;
 
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
-import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import opennlp.tools.cmdline.lemmatizer.LemmaEvaluationErrorListener;
@@ -23,7 +22,7 @@ import opennlp.tools.lemmatizer.LemmaSample;
 import opennlp.tools.lemmatizer.LemmatizerEvaluator;
 import opennlp.tools.lemmatizer.LemmatizerME;
 import opennlp.tools.lemmatizer.LemmatizerModel;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlp.tools.util.ObjectStream;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
@@ -33,12 +32,12 @@ import java.nio.charset.StandardCharsets;
 public class LemmatizerModelEvaluator implements ModelEvaluator<LemmatizerModel, LemmaSample> {
     @Override
     @SneakyThrows
-    public Tuple2<Double, String> evaluateModel(@NonNull LemmatizerModel model, @NonNull Seq<LemmaSample> samples) {
+    public Tuple2<Double, String> evaluateModel(@NonNull LemmatizerModel model, @NonNull ObjectStream<LemmaSample> samples) {
         var misclassified = new ByteArrayOutputStream();
         var evaluator = new LemmatizerEvaluator(
                 new LemmatizerME(model),
                 new LemmaEvaluationErrorListener(misclassified));
-        evaluator.evaluate(new SeqObjectStream<>(samples));
+        evaluator.evaluate(samples);
         return Tuple.of(evaluator.getWordAccuracy(), new String(misclassified.toByteArray(), StandardCharsets.UTF_8));
     }
 }
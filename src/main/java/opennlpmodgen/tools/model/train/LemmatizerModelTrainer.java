@@ -13,29 +13,40 @@
  */
 package opennlpmodgen.tools.model.train;
 
-import io.vavr.collection.Seq;
 import io.vavr.control.Option;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import opennlp.tools.lemmatizer.LemmaSample;
 import opennlp.tools.lemmatizer.LemmatizerFactory;
 import opennlp.tools.lemmatizer.LemmatizerME;
 import opennlp.tools.lemmatizer.LemmatizerModel;
 import opennlp.tools.util.InsufficientTrainingDataException;
-import opennlp.tools.util.TrainingParameters;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlp.tools.util.ObjectStream;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class LemmatizerModelTrainer implements ModelTrainer<LemmatizerModel, LemmaSample> {
+    private static final String MODEL_TYPE = "lemmatizer";
+
+    @NonNull
+    private final TrainingProfile trainingProfile;
+    @NonNull
+    private final LemmaOutcomePruner outcomePruner;
+
+    @Override
+    public Class<LemmatizerModel> getModelClass() {
+        return LemmatizerModel.class;
+    }
+
     @Override
     @SneakyThrows
-    public Option<LemmatizerModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull Seq<LemmaSample> samples) {
+    public Option<LemmatizerModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull ObjectStream<LemmaSample> samples) {
         try {
-            var params = TrainingParameters.defaultParams();
-            params.put(TrainingParameters.ALGORITHM_PARAM, algorithm);
+            var params = trainingProfile.getTrainingParameters(MODEL_TYPE, algorithm);
             var model = LemmatizerME.train(language,
-                    new SeqObjectStream<>(samples),
+                    outcomePruner.pruneOutcomes(samples, language),
                     params,
                     new LemmatizerFactory());
             return Option.some(model);
@@ -15,10 +15,16 @@ package opennlpmodgen.tools.model.train;
 
 import io.vavr.Tuple2;
 import io.vavr.collection.Seq;
+import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.model.BaseModel;
+import opennlpmodgen.tools.model.util.SeqObjectStream;
 
 import java.io.Serializable;
 
 public interface ModelEvaluator<M extends BaseModel, S extends Serializable> {
-    public Tuple2<Double, String> evaluateModel(M model, Seq<S> samples);
+    public Tuple2<Double, String> evaluateModel(M model, ObjectStream<S> samples);
+
+    public default Tuple2<Double, String> evaluateModel(M model, Seq<S> samples) {
+        return evaluateModel(model, new SeqObjectStream<>(samples));
+    }
 }
@@ -15,10 +15,18 @@ package opennlpmodgen.tools.model.train;
 
 import io.vavr.collection.Seq;
 import io.vavr.control.Option;
+import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.model.BaseModel;
+import opennlpmodgen.tools.model.util.SeqObjectStream;
 
 import java.io.Serializable;
 
 public interface ModelTrainer<M extends BaseModel, S extends Serializable> {
-    public Option<M> trainModel(String algorithm, String language, Seq<S> samples);
+    public Class<M> getModelClass();
+
+    public Option<M> trainModel(String algorithm, String language, ObjectStream<S> samples);
+
+    public default Option<M> trainModel(String algorithm, String language, Seq<S> samples) {
+        return trainModel(algorithm, language, new SeqObjectStream<>(samples));
+    }
 }
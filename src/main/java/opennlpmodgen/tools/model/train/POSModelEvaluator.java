@@ -15,7 +15,6 @@ package opennlpmodgen.tools.model.train;
 
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
-import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import opennlp.tools.cmdline.postag.POSEvaluationErrorListener;
@@ -23,7 +22,7 @@ import opennlp.tools.postag.POSEvaluator;
 import opennlp.tools.postag.POSModel;
 import opennlp.tools.postag.POSSample;
 import opennlp.tools.postag.POSTaggerME;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlp.tools.util.ObjectStream;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
@@ -33,12 +32,12 @@ import java.nio.charset.StandardCharsets;
 public class POSModelEvaluator implements ModelEvaluator<POSModel, POSSample> {
     @Override
     @SneakyThrows
-    public Tuple2<Double, String> evaluateModel(@NonNull POSModel model, @NonNull Seq<POSSample> samples) {
+    public Tuple2<Double, String> evaluateModel(@NonNull POSModel model, @NonNull ObjectStream<POSSample> samples) {
         var misclassified = new ByteArrayOutputStream();
         var evaluator = new POSEvaluator(
                 new POSTaggerME(model),
                 new POSEvaluationErrorListener(misclassified));
-        evaluator.evaluate(new SeqObjectStream<>(samples));
+        evaluator.evaluate(samples);
         return Tuple.of(evaluator.getWordAccuracy(), new String(misclassified.toByteArray(), StandardCharsets.UTF_8));
     }
 }
@@ -13,30 +13,39 @@
  */
 package opennlpmodgen.tools.model.train;
 
-import io.vavr.collection.Seq;
 import io.vavr.control.Option;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import opennlp.tools.postag.POSModel;
 import opennlp.tools.postag.POSSample;
 import opennlp.tools.postag.POSTaggerFactory;
 import opennlp.tools.postag.POSTaggerME;
 import opennlp.tools.util.InsufficientTrainingDataException;
-import opennlp.tools.util.TrainingParameters;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlp.tools.util.ObjectStream;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class POSModelTrainer implements ModelTrainer<POSModel, POSSample> {
+    private static final String MODEL_TYPE = "pos-tagger";
+
+    @NonNull
+    private final TrainingProfile trainingProfile;
+
+    @Override
+    public Class<POSModel> getModelClass() {
+        return POSModel.class;
+    }
+
     @Override
     @SneakyThrows
-    public Option<POSModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull Seq<POSSample> samples) {
+    public Option<POSModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull ObjectStream<POSSample> samples) {
         try {
-            var params = TrainingParameters.defaultParams();
-            params.put(TrainingParameters.ALGORITHM_PARAM, algorithm);
+            var params = trainingProfile.getTrainingParameters(MODEL_TYPE, algorithm);
             var model = POSTaggerME.train(
                     language,
-                    new SeqObjectStream<>(samples),
+                    samples,
                     params,
                     new POSTaggerFactory());
             return Option.some(model);
@@ -15,7 +15,6 @@ package opennlpmodgen.tools.model.train;
 
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
-import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import opennlp.tools.cmdline.sentdetect.SentenceEvaluationErrorListener;
@@ -23,7 +22,7 @@ import opennlp.tools.sentdetect.SentenceDetectorEvaluator;
 import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
 import opennlp.tools.sentdetect.SentenceSample;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlp.tools.util.ObjectStream;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
@@ -33,12 +32,12 @@ import java.nio.charset.StandardCharsets;
 public class SentenceModelEvaluator implements ModelEvaluator<SentenceModel, SentenceSample> {
     @Override
     @SneakyThrows
-    public Tuple2<Double, String> evaluateModel(@NonNull SentenceModel model, @NonNull Seq<SentenceSample> samples) {
+    public Tuple2<Double, String> evaluateModel(@NonNull SentenceModel model, @NonNull ObjectStream<SentenceSample> samples) {
         var misclassified = new ByteArrayOutputStream();
         var evaluator = new SentenceDetectorEvaluator(
                 new SentenceDetectorME(model),
                 new SentenceEvaluationErrorListener(misclassified));
-        evaluator.evaluate(new SeqObjectStream<>(samples));
+        evaluator.evaluate(samples);
         return Tuple.of(evaluator.getFMeasure().getFMeasure(), new String(misclassified.toByteArray(), StandardCharsets.UTF_8));
     }
 }
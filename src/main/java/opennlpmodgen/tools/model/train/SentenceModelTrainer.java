@@ -13,7 +13,6 @@
  */
 package opennlpmodgen.tools.model.train;
 
-import io.vavr.collection.Seq;
 import io.vavr.control.Option;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -23,26 +22,33 @@ import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
 import opennlp.tools.sentdetect.SentenceSample;
 import opennlp.tools.util.InsufficientTrainingDataException;
-import opennlp.tools.util.TrainingParameters;
+import opennlp.tools.util.ObjectStream;
 import opennlpmodgen.tools.model.util.EOSCharsSupplier;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class SentenceModelTrainer implements ModelTrainer<SentenceModel, SentenceSample> {
+    private static final String MODEL_TYPE = "sentence-detector";
+
+    @NonNull
+    private final TrainingProfile trainingProfile;
     @NonNull
     private final EOSCharsSupplier eosCharsSupplier;
 
+    @Override
+    public Class<SentenceModel> getModelClass() {
+        return SentenceModel.class;
+    }
+
     @Override
     @SneakyThrows
-    public Option<SentenceModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull Seq<SentenceSample> samples) {
+    public Option<SentenceModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull ObjectStream<SentenceSample> samples) {
         try {
-            var params = TrainingParameters.defaultParams();
-            params.put(TrainingParameters.ALGORITHM_PARAM, algorithm);
+            var params = trainingProfile.getTrainingParameters(MODEL_TYPE, algorithm);
             var model = SentenceDetectorME.train(
                     language,
-                    new SeqObjectStream<>(samples),
+                    samples,
                     new SentenceDetectorFactory(language, true, null, getEosChars(language)),
                     params);
             return Option.some(model);
@@ -15,7 +15,6 @@ package opennlpmodgen.tools.model.train;
 
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
-import io.vavr.collection.Seq;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import opennlp.tools.cmdline.tokenizer.TokenEvaluationErrorListener;
@@ -23,7 +22,7 @@ import opennlp.tools.tokenize.TokenSample;
 import opennlp.tools.tokenize.TokenizerEvaluator;
 import opennlp.tools.tokenize.TokenizerME;
 import opennlp.tools.tokenize.TokenizerModel;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlp.tools.util.ObjectStream;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
@@ -33,12 +32,12 @@ import java.nio.charset.StandardCharsets;
 public class TokenizerModelEvaluator implements ModelEvaluator<TokenizerModel, TokenSample> {
     @Override
     @SneakyThrows
-    public Tuple2<Double, String> evaluateModel(@NonNull TokenizerModel model, @NonNull Seq<TokenSample> samples) {
+    public Tuple2<Double, String> evaluateModel(@NonNull TokenizerModel model, @NonNull ObjectStream<TokenSample> samples) {
         var misclassified = new ByteArrayOutputStream();
         var evaluator = new TokenizerEvaluator(
                 new TokenizerME(model),
                 new TokenEvaluationErrorListener(misclassified));
-        evaluator.evaluate(new SeqObjectStream<>(samples));
+        evaluator.evaluate(samples);
         return Tuple.of(evaluator.getFMeasure().getFMeasure(), new String(misclassified.toByteArray(), StandardCharsets.UTF_8));
     }
 }
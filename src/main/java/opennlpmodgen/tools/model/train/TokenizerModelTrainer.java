@@ -13,29 +13,38 @@
  */
 package opennlpmodgen.tools.model.train;
 
-import io.vavr.collection.Seq;
 import io.vavr.control.Option;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import opennlp.tools.tokenize.TokenSample;
 import opennlp.tools.tokenize.TokenizerFactory;
 import opennlp.tools.tokenize.TokenizerME;
 import opennlp.tools.tokenize.TokenizerModel;
 import opennlp.tools.util.InsufficientTrainingDataException;
-import opennlp.tools.util.TrainingParameters;
-import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlp.tools.util.ObjectStream;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class TokenizerModelTrainer implements ModelTrainer<TokenizerModel, TokenSample> {
+    private static final String MODEL_TYPE = "tokenizer";
+
+    @NonNull
+    private final TrainingProfile trainingProfile;
+
+    @Override
+    public Class<TokenizerModel> getModelClass() {
+        return TokenizerModel.class;
+    }
+
     @Override
     @SneakyThrows
-    public Option<TokenizerModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull Seq<TokenSample> samples) {
+    public Option<TokenizerModel> trainModel(@NonNull String algorithm, @NonNull String language, @NonNull ObjectStream<TokenSample> samples) {
         try {
-            var params = TrainingParameters.defaultParams();
-            params.put(TrainingParameters.ALGORITHM_PARAM, algorithm);
+            var params = trainingProfile.getTrainingParameters(MODEL_TYPE, algorithm);
             var model = TokenizerME.train(
-                    new SeqObjectStream<>(samples),
+                    samples,
                     new TokenizerFactory(language, null, false, null),
                     params);
             return Option.some(model);
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.train;
+
+import lombok.NonNull;
+import opennlp.tools.util.TrainingParameters;
+import opennlpmodgen.tools.MainProcessor;
+import opennlpmodgen.tools.model.util.TrainingExecutor;
+import opennlpmodgen.tools.util.Settings;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrainingProfile {
+    // training parameters of a model type: training.<model-type>.<parameter>, in example: training.pos-tagger.threads
+    public static final String THREADS_SETTING = "training.%s.threads";
+    public static final String ITERATIONS_SETTING = "training.%s.iterations";
+    public static final String CUTOFF_SETTING = "training.%s.cutoff";
+    // other parameters are passed to the algorithm as they are, in example: training.lemmatizer.params.PerceptronAveraging
+    public static final String PARAMS_SETTING_PREFIX = "training.%s.params.";
+
+    private final Settings settings;
+    private final int defaultThreads;
+
+    public TrainingProfile(@NonNull Settings settings) {
+        this.settings = settings;
+        // available cores are shared by algorithms trained at the same time in all model types processed at the same time
+        var trainingParallelism = Math.max(1, settings.getInt(TrainingExecutor.PARALLELISM_SETTING, 1));
+        var pipelineParallelism = Math.max(1, settings.getInt(MainProcessor.PIPELINE_PARALLELISM_SETTING, 1));
+        this.defaultThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / (trainingParallelism * pipelineParallelism));
+    }
+
+    public TrainingParameters getTrainingParameters(@NonNull String modelType, @NonNull String algorithm) {
+        var params = TrainingParameters.defaultParams();
+        params.put(TrainingParameters.ALGORITHM_PARAM, algorithm);
+        params.put(TrainingParameters.THREADS_PARAM, settings.getInt(String.format(THREADS_SETTING, modelType), defaultThreads));
+        params.put(TrainingParameters.ITERATIONS_PARAM, settings.getInt(String.format(ITERATIONS_SETTING, modelType), TrainingParameters.ITERATIONS_DEFAULT_VALUE));
+        params.put(TrainingParameters.CUTOFF_PARAM, settings.getInt(String.format(CUTOFF_SETTING, modelType), TrainingParameters.CUTOFF_DEFAULT_VALUE));
+        settings.getByPrefix(String.format(PARAMS_SETTING_PREFIX, modelType))
+                .forEach((name, value) -> params.put(name, value.trim()));
+        return params;
+    }
+}
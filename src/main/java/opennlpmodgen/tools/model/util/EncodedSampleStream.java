@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.Iterator;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import opennlp.tools.util.ObjectStream;
+import opennlpmodgen.tools.model.codec.SampleCodec;
+import opennlpmodgen.tools.model.codec.SampleDataInput;
+import opennlpmodgen.tools.model.codec.SampleDataOutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class EncodedSampleStream<S extends Serializable> implements ObjectStream<S> {
+    // samples are encoded with a compact codec instead of java serialization
+    // every sample is preceded by 1, the stream ends with 0
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final SampleCodec<S> codec;
+    private SampleDataInput input;
+
+    public EncodedSampleStream(@NonNull Path path, @NonNull SampleCodec<S> codec) {
+        this.path = path;
+        this.codec = codec;
+        reset();
+    }
+
+    @SneakyThrows
+    public static <S extends Serializable> int writeSamples(@NonNull Iterator<S> samples, @NonNull SampleCodec<S> codec, @NonNull Path path) {
+        var count = 0;
+        try (var output = new SampleDataOutput(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+            for (var sample : samples) {
+                output.writeVarInt(1);
+                codec.encode(sample, output);
+                count++;
+            }
+            output.writeVarInt(0);
+        }
+        return count;
+    }
+
+    @Override
+    public S read() {
+        return input != null && input.readVarInt() != 0 ? codec.decode(input) : null;
+    }
+
+    @Override
+    @SneakyThrows
+    public void reset() {
+        close();
+        input = new SampleDataInput(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+    }
+
+    @Override
+    public void close() {
+        if (input != null) {
+            input.close();
+            input = null;
+        }
+    }
+}
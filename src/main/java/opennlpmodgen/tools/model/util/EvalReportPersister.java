@@ -13,6 +13,7 @@
  */
 package opennlpmodgen.tools.model.util;
 
+import io.vavr.collection.Seq;
 import io.vavr.collection.TreeMap;
 import io.vavr.collection.Vector;
 import lombok.NonNull;
@@ -32,13 +33,18 @@ public class EvalReportPersister {
             int trainingSampleSize,
             int evaluationSampleSize,
             @NonNull String algorithm,
+            @NonNull Seq<String> skippedAlgorithms,
             @NonNull BaseModel model,
             @NonNull String misclassifiedDetails,
             @NonNull Path evalReportPath) {
         var evaluationProperties = Vector.of(String.format("Evaluation-Score=%s", evaluationScore),
                 String.format("Training-Sample-Size=%s", trainingSampleSize),
                 String.format("Evaluation-Sample-Size=%s", evaluationSampleSize),
-                String.format("Training-Algorithm=%s", algorithm));
+                String.format("Training-Algorithm=%s", algorithm))
+                // algorithms abandoned because of exceeded training budget
+                .appendAll(skippedAlgorithms.isEmpty()
+                        ? Vector.empty()
+                        : Vector.of(String.format("Skipped-Algorithms=%s", skippedAlgorithms.mkString(", "))));
         var modelProperties = TreeMap.ofAll(model.getArtifact("manifest.properties")).map(e -> String.format("%s=%s", e._1, e._2));
         var misclassifiedTxt = Vector.of(misclassifiedDetails.split("\\R"));
         var reportTxt = Vector.of("=== EVALUATION INFO ===")
@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import com.sun.management.OperatingSystemMXBean;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.model.BaseModel;
+import opennlpmodgen.tools.MainConfig;
+import opennlpmodgen.tools.TrainingWorkerCmd;
+import opennlpmodgen.tools.model.codec.SampleCodec;
+import opennlpmodgen.tools.model.codec.SampleCodecs;
+import opennlpmodgen.tools.model.train.ModelTrainer;
+import opennlpmodgen.tools.util.HeapBudget;
+import opennlpmodgen.tools.util.Settings;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@CommonsLog
+public class ForkedTrainingRunner {
+    // heap (-Xmx) of a worker process training a single model, 0 means training in the main process
+    // out of memory error in a worker does not affect the main process, the algorithm is skipped
+    public static final String WORKER_HEAP_SETTING = "training.worker.heap.mb";
+    // memory shared by all concurrent worker processes, by default physical memory not used by the main process heap
+    public static final String WORKER_HEAP_BUDGET_SETTING = "training.worker.heap.budget.mb";
+    // result of a worker process killed because of exceeded time budget
+    static final int TIME_BUDGET_EXCEEDED = -1;
+
+    private final Settings settings;
+    private final SampleCodecs codecs;
+    private final ModelPersister modelPersister;
+    private final long workerHeapMegabytes;
+    private final double timeBudgetMinutes;
+    private final HeapBudget workerHeapBudget;
+
+    public ForkedTrainingRunner(@NonNull Settings settings, @NonNull SampleCodecs codecs, @NonNull ModelPersister modelPersister) {
+        this.settings = settings;
+        this.codecs = codecs;
+        this.modelPersister = modelPersister;
+        // budgets of a training run are enforced by the worker process: heap limit is its maximal heap, it is killed after the time budget
+        var heapLimitMegabytes = settings.getLong(TrainingExecutor.HEAP_LIMIT_SETTING, 0);
+        var workerHeapMegabytes = settings.getLong(WORKER_HEAP_SETTING, 0);
+        this.workerHeapMegabytes = heapLimitMegabytes > 0 && workerHeapMegabytes > 0 ? Math.min(workerHeapMegabytes, heapLimitMegabytes) : workerHeapMegabytes;
+        this.timeBudgetMinutes = settings.getDouble(TrainingExecutor.TIME_BUDGET_SETTING, 0);
+        // at least one worker may run at a time
+        var defaultWorkerHeapBudget = Math.max(this.workerHeapMegabytes, getPhysicalMemoryMegabytes() - HeapBudget.getMaxHeapMegabytes());
+        this.workerHeapBudget = new HeapBudget(settings.getLong(WORKER_HEAP_BUDGET_SETTING, defaultWorkerHeapBudget));
+    }
+
+    public boolean isEnabled() {
+        return workerHeapMegabytes > 0;
+    }
+
+    @SneakyThrows
+    public <M extends BaseModel, S extends Serializable> Either<String, Option<M>> trainModel(
+            @NonNull ModelTrainer<M, S> trainer,
+            @NonNull String algorithm,
+            @NonNull String language,
+            @NonNull SpilledSamples<S> samples,
+            double fraction) {
+        // result is the reason of skipping the training if the worker process fails
+        // spilled samples are read by the worker from the spill file, other samples are written to a temporary file
+        // the worker takes the fraction of samples itself, so the file is shared by all algorithms and selection rounds
+        var tempSamplesPathOpt = samples.getSpillPathOpt().isEmpty()
+                ? Option.some(Files.createTempFile("opennlpmodgen-worker-samples-", ".bin"))
+                : Option.<Path>none();
+        var modelPath = Files.createTempFile("opennlpmodgen-worker-model-", ".bin");
+        try {
+            var samplesPath = tempSamplesPathOpt.orElse(samples.getSpillPathOpt()).get();
+            var sampleClassName = tempSamplesPathOpt.isDefined()
+                    ? writeSamples(samples, samplesPath)
+                    : samples.getCodecOpt().map(codec -> codec.getSampleClass().getName()).getOrElse(TrainingWorker.SERIALIZED_SAMPLES);
+            var command = createCommand(trainer.getClass().getName(), algorithm, language, sampleClassName, samplesPath, fraction, modelPath);
+            // worker heaps of concurrent trainings must fit into physical memory
+            var exitCode = workerHeapBudget.reserve(workerHeapMegabytes, () -> runWorker(command));
+            switch (exitCode) {
+                case TrainingWorker.MODEL_TRAINED:
+                    return Either.right(Option.some(modelPersister.readModel(modelPath, trainer.getModelClass())));
+                case TrainingWorker.NO_MODEL:
+                    return Either.right(Option.none());
+                case TrainingWorker.OUT_OF_MEMORY:
+                    return Either.left(String.format("out of memory in worker process with %d MB heap", workerHeapMegabytes));
+                case TIME_BUDGET_EXCEEDED:
+                    return Either.left(String.format("time budget of %s minutes exceeded", timeBudgetMinutes));
+                default:
+                    return Either.left(String.format("worker process failed with exit code %d", exitCode));
+            }
+        } finally {
+            if (tempSamplesPathOpt.isDefined()) {
+                Files.deleteIfExists(tempSamplesPathOpt.get());
+            }
+            Files.deleteIfExists(modelPath);
+        }
+    }
+
+    public Seq<String> createCommand(
+            @NonNull String trainerClassName,
+            @NonNull String algorithm,
+            @NonNull String language,
+            @NonNull String sampleClassName,
+            @NonNull Path samplesPath,
+            double fraction,
+            @NonNull Path modelPath) {
+        // the worker runs with the same java and classpath, settings are passed as system properties
+        var javaPath = Path.of(System.getProperty("java.home")).resolve("bin").resolve("java");
+        var settingProperties = settings.getByPrefix("")
+                .toVector()
+                .sortBy(setting -> setting._1)
+                .map(setting -> String.format("-D%s%s=%s", MainConfig.SETTINGS_PREFIX, setting._1, setting._2));
+        return Vector.of(javaPath.toString(), String.format("-Xmx%dm", workerHeapMegabytes), "-XX:+ExitOnOutOfMemoryError")
+                .appendAll(settingProperties)
+                .appendAll(Vector.of("-cp", System.getProperty("java.class.path"), TrainingWorkerCmd.class.getName(),
+                        trainerClassName, algorithm, language, sampleClassName, samplesPath.toString(), String.valueOf(fraction), modelPath.toString()));
+    }
+
+    @SneakyThrows
+    private <S extends Serializable> String writeSamples(SpilledSamples<S> samples, Path samplesPath) {
+        try (var stream = samples.openStream()) {
+            var sampleIt = Iterator.continually(() -> readSample(stream)).takeWhile(Objects::nonNull);
+            if (!sampleIt.hasNext()) {
+                SerializedObjectStream.writeObjects(Iterator.<S>empty(), samplesPath);
+                return TrainingWorker.SERIALIZED_SAMPLES;
+            }
+            var firstSample = sampleIt.next();
+            var allSamples = Iterator.of(firstSample).concat(sampleIt);
+            Option<SampleCodec<S>> codecOpt = codecs.getCodec(firstSample.getClass());
+            if (codecOpt.isDefined()) {
+                EncodedSampleStream.writeSamples(allSamples, codecOpt.get(), samplesPath);
+                return firstSample.getClass().getName();
+            }
+            SerializedObjectStream.writeObjects(allSamples, samplesPath);
+            return TrainingWorker.SERIALIZED_SAMPLES;
+        }
+    }
+
+    @SneakyThrows
+    private static <S> S readSample(ObjectStream<S> samples) {
+        return samples.read();
+    }
+
+    private static long getPhysicalMemoryMegabytes() {
+        var operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+        return operatingSystem instanceof OperatingSystemMXBean
+                ? ((OperatingSystemMXBean) operatingSystem).getTotalMemorySize() / (1024 * 1024)
+                : Long.MAX_VALUE;
+    }
+
+    @SneakyThrows
+    int runWorker(Seq<String> command) {
+        var process = new ProcessBuilder(command.asJava()).inheritIO().start();
+        try {
+            if (timeBudgetMinutes <= 0) {
+                return process.waitFor();
+            }
+            return process.waitFor((long) (timeBudgetMinutes * 60_000), TimeUnit.MILLISECONDS)
+                    ? process.exitValue()
+                    : TIME_BUDGET_EXCEEDED;
+        } finally {
+            // the worker is killed if the training is abandoned, in example because of exceeded time budget
+            if (process.isAlive()) {
+                log.info("Killing training worker process");
+                process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.Function0;
+import io.vavr.collection.Iterator;
+import lombok.NonNull;
+import opennlp.tools.util.ObjectStream;
+
+public class IteratorObjectStream<T> implements ObjectStream<T> {
+    // samples are created on demand, reset reads the source again instead of keeping samples in memory
+    private final Function0<? extends Iterator<T>> source;
+    private Iterator<T> it;
+
+    public IteratorObjectStream(@NonNull Function0<? extends Iterator<T>> source) {
+        this.source = source;
+        reset();
+    }
+
+    @Override
+    public T read() {
+        return it.hasNext() ? it.next() : null;
+    }
+
+    @Override
+    public void reset() {
+        it = source.apply();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.Function0;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+import opennlpmodgen.tools.model.codec.SampleCodec;
+import opennlpmodgen.tools.model.codec.SampleCodecs;
+import opennlpmodgen.tools.util.Settings;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Component
+@CommonsLog
+public class SampleSpiller {
+    // samples are written to a temporary file if there are more of them than the threshold, 0 means never
+    public static final String SPILL_THRESHOLD_SETTING = "training.samples.spill.threshold";
+
+    private final int spillThreshold;
+    private final SampleCodecs codecs;
+
+    public SampleSpiller(@NonNull Settings settings, @NonNull SampleCodecs codecs) {
+        this.spillThreshold = settings.getInt(SPILL_THRESHOLD_SETTING, 0);
+        this.codecs = codecs;
+    }
+
+    @SneakyThrows
+    public <S extends Serializable> SpilledSamples<S> spillSamples(@NonNull Function0<Iterator<S>> samples) {
+        // spilled samples are serialized once and replayed from the file by every training pass
+        // instead of being converted again or kept in memory
+        if (spillThreshold <= 0) {
+            return new SpilledSamples<>(samples, samples.apply().size(), Option.none(), Option.none());
+        }
+        // samples are read in a single pass: they are written while being counted
+        // and the file is dropped if there are not more samples than the threshold
+        var iterator = samples.apply();
+        if (!iterator.hasNext()) {
+            return new SpilledSamples<>(samples, 0, Option.none(), Option.none());
+        }
+        var firstSample = iterator.next();
+        Option<SampleCodec<S>> codecOpt = codecs.getCodec(firstSample.getClass());
+        var spillPath = Files.createTempFile("opennlpmodgen-samples-", ".bin");
+        int size;
+        try {
+            size = writeSamples(Iterator.of(firstSample).concat(iterator), codecOpt, spillPath);
+        } catch (Exception e) {
+            Files.deleteIfExists(spillPath);
+            throw e;
+        }
+        if (size <= spillThreshold) {
+            Files.deleteIfExists(spillPath);
+            return new SpilledSamples<>(samples, size, Option.none(), Option.none());
+        }
+        log.info(String.format("Spilled %d samples to file: '%s', codec: '%s'", size, spillPath, codecOpt.map(codec -> codec.getClass().getSimpleName()).getOrElse("serialization")));
+        return new SpilledSamples<>(samples, size, Option.some(spillPath), codecOpt);
+    }
+
+    private <S extends Serializable> int writeSamples(Iterator<S> samples, Option<SampleCodec<S>> codecOpt, Path spillPath) {
+        return codecOpt.isDefined()
+                ? EncodedSampleStream.writeSamples(samples, codecOpt.get(), spillPath)
+                : SerializedObjectStream.writeObjects(samples, spillPath);
+    }
+}
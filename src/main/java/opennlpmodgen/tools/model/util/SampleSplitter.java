@@ -13,9 +13,10 @@
  */
 package opennlpmodgen.tools.model.util;
 
+import io.vavr.Function0;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
-import io.vavr.collection.Seq;
+import io.vavr.collection.Iterator;
 import lombok.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -23,12 +24,13 @@ import java.io.Serializable;
 
 @Component
 public class SampleSplitter {
-    public <S extends Serializable> Tuple2<Seq<S>, Seq<S>> splitSamples(@NonNull Seq<S> samples) {
+    public <S extends Serializable> Tuple2<Function0<Iterator<S>>, Function0<Iterator<S>>> splitSamples(@NonNull Function0<Iterator<S>> samples) {
         // split samples
         // train samples contains 90% of original samples
         // evaluation samples contains 10% of original samples (every 10th element)
-        return samples.zipWithIndex()
-                .partition(t -> (t._2 + 1) % 10 != 0)
-                .map((zs1, zs2) -> Tuple.of(zs1.map(Tuple2::_1), zs2.map(Tuple2::_1)));
+        // both parts are read from the source on demand, samples are not kept in memory
+        return Tuple.of(
+                () -> samples.apply().zipWithIndex().filter(t -> (t._2 + 1) % 10 != 0).map(Tuple2::_1),
+                () -> samples.apply().zipWithIndex().filter(t -> (t._2 + 1) % 10 == 0).map(Tuple2::_1));
     }
 }
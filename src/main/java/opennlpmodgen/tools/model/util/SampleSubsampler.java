@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import lombok.NonNull;
+import opennlp.tools.util.ObjectStream;
+import opennlpmodgen.tools.util.Settings;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SampleSubsampler {
+    // fraction of training samples used by the first round of algorithm selection, 1.0 disables selection rounds
+    // every next round uses twice as many samples and only the better half of algorithms
+    public static final String SUBSAMPLE_FRACTION_SETTING = "training.selection.subsample.fraction";
+
+    private final double subsampleFraction;
+
+    public SampleSubsampler(@NonNull Settings settings) {
+        this.subsampleFraction = settings.getDouble(SUBSAMPLE_FRACTION_SETTING, 1.0);
+        if (subsampleFraction <= 0.0 || subsampleFraction > 1.0) {
+            throw new IllegalArgumentException(String.format("Setting '%s' must be in range (0, 1]: %s", SUBSAMPLE_FRACTION_SETTING, subsampleFraction));
+        }
+    }
+
+    public Seq<Double> getSelectionFractions() {
+        // in example: 0.2 gives rounds 0.2, 0.4, 0.8 before the full training
+        var fractions = Vector.<Double>empty();
+        for (var fraction = subsampleFraction; fraction < 1.0; fraction *= 2) {
+            fractions = fractions.append(fraction);
+        }
+        return fractions;
+    }
+
+    public <S> ObjectStream<S> subsampleSamples(@NonNull ObjectStream<S> samples, double fraction) {
+        return fraction < 1.0 ? new SubsampledObjectStream<>(samples, fraction) : samples;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.Iterator;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import opennlp.tools.util.ObjectStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SerializedObjectStream<T extends Serializable> implements ObjectStream<T> {
+    // serialization handles are cleared periodically, so neither writer nor reader keeps all objects in memory
+    // repeated strings (tags, frequent words) between resets are written once
+    private static final int RESET_INTERVAL = 1000;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private ObjectInputStream input;
+
+    public SerializedObjectStream(@NonNull Path path) {
+        this.path = path;
+        reset();
+    }
+
+    @SneakyThrows
+    public static <T extends Serializable> int writeObjects(@NonNull Iterator<T> objects, @NonNull Path path) {
+        // objects are followed by null which marks the end of the stream
+        var count = 0;
+        try (var output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+            for (var object : objects) {
+                output.writeObject(object);
+                if (++count % RESET_INTERVAL == 0) {
+                    output.reset();
+                }
+            }
+            output.writeObject(null);
+        }
+        return count;
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T read() {
+        return input != null ? (T) input.readObject() : null;
+    }
+
+    @Override
+    @SneakyThrows
+    public void reset() {
+        close();
+        input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        if (input != null) {
+            input.close();
+            input = null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.Function0;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Option;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import opennlp.tools.util.FilterObjectStream;
+import opennlp.tools.util.ObjectStream;
+import opennlpmodgen.tools.model.codec.SampleCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RequiredArgsConstructor
+public class SpilledSamples<S extends Serializable> implements Closeable {
+    @NonNull
+    private final Function0<Iterator<S>> samples;
+    @Getter
+    private final int size;
+    // samples are read from the spill file if it exists, otherwise they are read from the source
+    @Getter
+    @NonNull
+    private final Option<Path> spillPathOpt;
+    // spill file is written with the codec if there is one for the sample type, otherwise with java serialization
+    @Getter
+    @NonNull
+    private final Option<SampleCodec<S>> codecOpt;
+    // spill file is deleted when samples are closed and no stream reads it anymore
+    // a training run abandoned because of exceeded budget may still read it in the background
+    private int openStreamCount;
+    private boolean closed;
+
+    public synchronized ObjectStream<S> openStream() {
+        if (spillPathOpt.isEmpty()) {
+            return new IteratorObjectStream<>(samples);
+        }
+        openStreamCount++;
+        return new SpillFileStream(codecOpt.isDefined()
+                ? new EncodedSampleStream<>(spillPathOpt.get(), codecOpt.get())
+                : new SerializedObjectStream<>(spillPathOpt.get()));
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        deleteUnusedSpillFile();
+    }
+
+    private synchronized void closeStream() {
+        openStreamCount--;
+        deleteUnusedSpillFile();
+    }
+
+    @SneakyThrows
+    private void deleteUnusedSpillFile() {
+        if (closed && openStreamCount == 0 && spillPathOpt.isDefined()) {
+            Files.deleteIfExists(spillPathOpt.get());
+        }
+    }
+
+    private class SpillFileStream extends FilterObjectStream<S, S> {
+        private boolean streamClosed;
+
+        SpillFileStream(ObjectStream<S> samples) {
+            super(samples);
+        }
+
+        @Override
+        public S read() throws IOException {
+            return samples.read();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!streamClosed) {
+                    streamClosed = true;
+                    closeStream();
+                }
+            }
+        }
+    }
+}
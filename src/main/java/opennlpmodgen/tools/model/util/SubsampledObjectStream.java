@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import lombok.NonNull;
+import opennlp.tools.util.FilterObjectStream;
+import opennlp.tools.util.ObjectStream;
+
+import java.io.IOException;
+
+public class SubsampledObjectStream<T> extends FilterObjectStream<T, T> {
+    // the given fraction of samples is read, kept samples are evenly spread over the whole stream
+    private final double fraction;
+    private long index;
+
+    public SubsampledObjectStream(@NonNull ObjectStream<T> samples, double fraction) {
+        super(samples);
+        if (fraction <= 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException(String.format("Subsample fraction must be in range (0, 1]: %s", fraction));
+        }
+        this.fraction = fraction;
+    }
+
+    @Override
+    public T read() throws IOException {
+        for (var sample = samples.read(); sample != null; sample = samples.read()) {
+            var current = index++;
+            if (Math.floor((current + 1) * fraction) > Math.floor(current * fraction)) {
+                return sample;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        super.reset();
+        index = 0;
+    }
+}
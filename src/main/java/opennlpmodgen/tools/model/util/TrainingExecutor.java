@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+import opennlpmodgen.tools.MainProcessor;
+import opennlpmodgen.tools.util.HeapBudget;
+import opennlpmodgen.tools.util.ParallelTaskRunner;
+import opennlpmodgen.tools.util.Settings;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@CommonsLog
+public class TrainingExecutor {
+    // number of algorithms trained and evaluated at the same time
+    public static final String PARALLELISM_SETTING = "training.parallelism";
+    // heap shared by all concurrent training runs
+    public static final String HEAP_BUDGET_SETTING = "training.heap.budget.mb";
+    // heap reserved for a single training run in the main process, 0 means no reservation
+    public static final String HEAP_PER_RUN_SETTING = "training.heap.per.run.mb";
+    // wall clock time of a single training run, a longer run is abandoned, 0 means no limit
+    // a worker process (see ForkedTrainingRunner) is killed, a run in the main process is left to finish in the background
+    public static final String TIME_BUDGET_SETTING = "training.run.time.budget.minutes";
+    // heap growth allowed during a single training run, a run which needs more is abandoned, 0 means no limit
+    // a worker process gets it as its maximal heap, in the main process heap is measured after garbage collections
+    // and the limit is ignored if training runs are concurrent
+    public static final String HEAP_LIMIT_SETTING = "training.run.heap.limit.mb";
+
+    private static final long MONITOR_INTERVAL_MILLIS = 100;
+
+    private final ParallelTaskRunner taskRunner;
+    private final int parallelism;
+    private final long heapPerRunMegabytes;
+    private final HeapBudget heapBudget;
+    private final double timeBudgetMinutes;
+    private final long heapLimitMegabytes;
+
+    public TrainingExecutor(@NonNull Settings settings, @NonNull ParallelTaskRunner taskRunner) {
+        this.taskRunner = taskRunner;
+        this.parallelism = settings.getInt(PARALLELISM_SETTING, 1);
+        this.heapPerRunMegabytes = settings.getLong(HEAP_PER_RUN_SETTING, 0);
+        this.heapBudget = new HeapBudget(settings.getLong(HEAP_BUDGET_SETTING, HeapBudget.getMaxHeapMegabytes()));
+        this.timeBudgetMinutes = settings.getDouble(TIME_BUDGET_SETTING, 0);
+        this.heapLimitMegabytes = getHeapLimitMegabytes(settings, parallelism);
+    }
+
+    private static long getHeapLimitMegabytes(Settings settings, int parallelism) {
+        // heap usage is measured for the whole process, it says nothing about a single run if runs are concurrent
+        // only a worker process (see ForkedTrainingRunner) limits the heap of a single run reliably
+        var heapLimitMegabytes = settings.getLong(HEAP_LIMIT_SETTING, 0);
+        var concurrentRuns = parallelism > 1 || settings.getInt(MainProcessor.PIPELINE_PARALLELISM_SETTING, 1) > 1;
+        var forkedRuns = settings.getLong(ForkedTrainingRunner.WORKER_HEAP_SETTING, 0) > 0;
+        if (heapLimitMegabytes > 0 && concurrentRuns && !forkedRuns) {
+            log.warn(String.format("Setting '%s' is ignored for concurrent training runs in the main process, set '%s' to train in worker processes",
+                    HEAP_LIMIT_SETTING, ForkedTrainingRunner.WORKER_HEAP_SETTING));
+            return 0;
+        }
+        return heapLimitMegabytes;
+    }
+
+    long getHeapLimitMegabytes() {
+        return heapLimitMegabytes;
+    }
+
+    public <T> Seq<T> executeTrainings(@NonNull Seq<Callable<T>> trainings) {
+        return taskRunner.runTasks(trainings, parallelism);
+    }
+
+    @SneakyThrows
+    public <T> Either<String, T> executeWithinBudget(@NonNull Callable<T> training) {
+        // result is the reason of skipping the training if it exceeds the budget
+        // heap is reserved until the training really ends, the training releases its resources (in example streams) itself
+        var heapPermits = heapBudget.acquire(heapPerRunMegabytes);
+        Callable<Either<String, T>> reservedTraining = () -> {
+            try {
+                return callWithinHeap(training);
+            } finally {
+                heapBudget.release(heapPermits);
+            }
+        };
+        if (timeBudgetMinutes <= 0 && heapLimitMegabytes <= 0) {
+            return reservedTraining.call();
+        }
+        // trainers do not react to interruption, an abandoned run finishes in the background on its own
+        var task = new FutureTask<>(reservedTraining);
+        var thread = new Thread(task);
+        thread.setDaemon(true);
+        var startNanos = System.nanoTime();
+        var startHeapMegabytes = getUsedHeapMegabytes();
+        thread.start();
+        while (true) {
+            try {
+                return task.get(MONITOR_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (TimeoutException e) {
+                var elapsedMinutes = (System.nanoTime() - startNanos) / 60e9;
+                if (timeBudgetMinutes > 0 && elapsedMinutes > timeBudgetMinutes) {
+                    thread.interrupt();
+                    return Either.left(String.format("time budget of %s minutes exceeded", timeBudgetMinutes));
+                }
+                // heap usage is measured for the whole process, the limit is applied only if runs are not concurrent
+                if (heapLimitMegabytes > 0 && getUsedHeapMegabytes() - startHeapMegabytes > heapLimitMegabytes) {
+                    thread.interrupt();
+                    return Either.left(String.format("heap limit of %d MB exceeded", heapLimitMegabytes));
+                }
+            }
+        }
+    }
+
+    private <T> Either<String, T> callWithinHeap(Callable<T> training) throws Exception {
+        try {
+            return Either.right(training.call());
+        } catch (OutOfMemoryError e) {
+            // memory of the failed run is reclaimed, so remaining algorithms can be trained
+            log.info("Training run failed with out of memory error");
+            return Either.left("out of memory");
+        }
+    }
+
+    private static long getUsedHeapMegabytes() {
+        // heap used after the most recent garbage collection of every pool, garbage waiting for collection is not counted
+        return Vector.ofAll(ManagementFactory.getMemoryPoolMXBeans())
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .map(MemoryPoolMXBean::getCollectionUsage)
+                .filter(Objects::nonNull)
+                .map(MemoryUsage::getUsed)
+                .sum().longValue() / (1024 * 1024);
+    }
+}
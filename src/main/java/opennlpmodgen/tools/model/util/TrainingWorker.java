@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.model.BaseModel;
+import opennlpmodgen.tools.model.codec.SampleCodecs;
+import opennlpmodgen.tools.model.train.ModelTrainer;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.List;
+
+@Component
+@CommonsLog
+public class TrainingWorker {
+    // exit codes of the worker process
+    public static final int MODEL_TRAINED = 0;
+    public static final int NO_MODEL = 2;
+    // the worker process exits with this code on out of memory error, see -XX:ExitOnOutOfMemoryError
+    public static final int OUT_OF_MEMORY = 3;
+    // sample class name of a sample file written with java serialization (in example an empty one)
+    public static final String SERIALIZED_SAMPLES = "-";
+
+    private final Vector<ModelTrainer<?, ?>> trainers;
+    private final SampleCodecs codecs;
+    private final SampleSubsampler sampleSubsampler;
+    private final ModelPersister modelPersister;
+
+    public TrainingWorker(
+            @NonNull List<ModelTrainer<?, ?>> trainers,
+            @NonNull SampleCodecs codecs,
+            @NonNull SampleSubsampler sampleSubsampler,
+            @NonNull ModelPersister modelPersister) {
+        this.trainers = Vector.ofAll(trainers);
+        this.codecs = codecs;
+        this.sampleSubsampler = sampleSubsampler;
+        this.modelPersister = modelPersister;
+    }
+
+    @SneakyThrows
+    public int trainModel(
+            @NonNull String trainerClassName,
+            @NonNull String algorithm,
+            @NonNull String language,
+            @NonNull String sampleClassName,
+            @NonNull Path samplesPath,
+            double fraction,
+            @NonNull Path modelPath) {
+        // samples are read from the spill file of the parent process, only the given fraction of them is used for training
+        // the model is written with ModelPersister
+        var trainer = trainers
+                .find(candidate -> candidate.getClass().getName().equals(trainerClassName))
+                .getOrElseThrow(() -> new IllegalArgumentException(String.format("Unknown trainer: '%s'", trainerClassName)));
+        log.info(String.format("Training model in worker process, language: '%s', trainer: '%s', algorithm: '%s'", language, trainer.getClass().getSimpleName(), algorithm));
+        try (var samples = openSamples(sampleClassName, samplesPath)) {
+            var modelOpt = trainSamples(trainer, algorithm, language, sampleSubsampler.subsampleSamples(samples, fraction));
+            if (modelOpt.isEmpty()) {
+                return NO_MODEL;
+            }
+            modelPersister.writeModel(modelOpt.get(), modelPath);
+            return MODEL_TRAINED;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends Serializable> Option<? extends BaseModel> trainSamples(ModelTrainer<?, ?> trainer, String algorithm, String language, ObjectStream<S> samples) {
+        return ((ModelTrainer<?, S>) trainer).trainModel(algorithm, language, samples);
+    }
+
+    @SneakyThrows
+    private <S extends Serializable> ObjectStream<S> openSamples(String sampleClassName, Path samplesPath) {
+        if (sampleClassName.equals(SERIALIZED_SAMPLES)) {
+            return new SerializedObjectStream<>(samplesPath);
+        }
+        return codecs.<S>getCodec(Class.forName(sampleClassName))
+                .<ObjectStream<S>>map(codec -> new EncodedSampleStream<>(samplesPath, codec))
+                .getOrElse(() -> new SerializedObjectStream<>(samplesPath));
+    }
+}
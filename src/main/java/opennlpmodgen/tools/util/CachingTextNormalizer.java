@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import io.vavr.collection.Seq;
+import lombok.NonNull;
+import lombok.extern.apachecommons.CommonsLog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@CommonsLog
+public class CachingTextNormalizer implements TextNormalizer {
+    // number of normalized texts remembered for every language
+    public static final String CACHE_SIZE_SETTING = "normalizer.cache.size";
+    private static final long STATISTICS_INTERVAL = 1_000_000;
+
+    private final TextNormalizer textNormalizer;
+    private final int cacheSize;
+    // words are distributed very unevenly, the most frequent words are normalized once
+    private final Map<String, Map<String, String>> cachesByLanguage = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    // single counter decides when statistics are logged, so every interval is logged exactly once
+    private final AtomicLong lookupCount = new AtomicLong();
+
+    public CachingTextNormalizer(@NonNull TextNormalizer textNormalizer, int cacheSize) {
+        this.textNormalizer = textNormalizer;
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public String normalizeText(@NonNull String text, @NonNull String language) {
+        if (cacheSize <= 0 || textNormalizer.isNormalized(text, language)) {
+            return textNormalizer.normalizeText(text, language);
+        }
+        var cache = cachesByLanguage.computeIfAbsent(language, this::createCache);
+        String normalizedText;
+        synchronized (cache) {
+            normalizedText = cache.get(text);
+        }
+        if (normalizedText != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            normalizedText = textNormalizer.normalizeText(text, language);
+            synchronized (cache) {
+                cache.put(text, normalizedText);
+            }
+        }
+        if (lookupCount.incrementAndGet() % STATISTICS_INTERVAL == 0) {
+            logStatistics();
+        }
+        return normalizedText;
+    }
+
+    @Override
+    public String normalizeUniqueText(@NonNull String text, @NonNull String language) {
+        // sentence texts would only evict frequent words from the cache
+        return textNormalizer.normalizeText(text, language);
+    }
+
+    @Override
+    public void clearCache(@NonNull String language) {
+        cachesByLanguage.remove(language);
+        textNormalizer.clearCache(language);
+    }
+
+    @Override
+    public boolean isNormalized(@NonNull String text, @NonNull String language) {
+        return textNormalizer.isNormalized(text, language);
+    }
+
+    @Override
+    public Seq<Class<?>> getImplementationClasses() {
+        return textNormalizer.getImplementationClasses();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private Map<String, String> createCache(String language) {
+        // least recently used texts are removed when the cache is full
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    private void logStatistics() {
+        var hits = getHitCount();
+        var misses = getMissCount();
+        log.info(String.format("Normalizer cache hits: %d, misses: %d, hit ratio: %.02f%%", hits, misses, 100.0 * hits / Math.max(1, hits + misses)));
+    }
+}
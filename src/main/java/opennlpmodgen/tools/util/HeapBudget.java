@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.apachecommons.CommonsLog;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+@CommonsLog
+public class HeapBudget {
+    @Getter
+    private final int budgetMegabytes;
+    private final Semaphore semaphore;
+
+    public HeapBudget(long budgetMegabytes) {
+        this.budgetMegabytes = (int) Math.max(0, Math.min(budgetMegabytes, Integer.MAX_VALUE));
+        this.semaphore = new Semaphore(this.budgetMegabytes, true);
+    }
+
+    public static long getMaxHeapMegabytes() {
+        return Runtime.getRuntime().maxMemory() / (1024 * 1024);
+    }
+
+    @SneakyThrows
+    public <T> T reserve(long megabytes, @NonNull Callable<T> task) {
+        var permits = acquire(megabytes);
+        try {
+            return task.call();
+        } finally {
+            release(permits);
+        }
+    }
+
+    @SneakyThrows
+    public int acquire(long megabytes) {
+        // a task which requires more than the whole budget runs alone
+        // acquired permits must be released, possibly by another thread which ends the task
+        var permits = (int) Math.min(Math.max(0, megabytes), budgetMegabytes);
+        if (permits > 0 && !semaphore.tryAcquire(permits)) {
+            log.info(String.format("Waiting for heap budget, required: %d MB, available: %d MB", permits, semaphore.availablePermits()));
+            semaphore.acquire(permits);
+        }
+        return permits;
+    }
+
+    public void release(int permits) {
+        if (permits > 0) {
+            semaphore.release(permits);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+@Component
+public class ParallelTaskRunner {
+    public <T> Seq<T> runTasks(@NonNull Seq<Callable<T>> tasks, int parallelism) {
+        // results are always returned in the order of tasks
+        // a single thread runs the tasks in the caller thread, one after another
+        return parallelism <= 1 || tasks.size() <= 1
+                ? runSequentially(Vector.ofAll(tasks))
+                : runConcurrently(Vector.ofAll(tasks), Math.min(parallelism, tasks.size()));
+    }
+
+    public <T> void runTasks(@NonNull Iterator<Callable<T>> tasks, int parallelism, int maxTasksInFlight, @NonNull Consumer<T> resultConsumer) {
+        // tasks are created by the caller thread while the pool runs previous tasks
+        // at most maxTasksInFlight tasks (and their results) are kept in memory, results are consumed in the order of tasks
+        if (parallelism <= 1) {
+            tasks.forEach(task -> resultConsumer.accept(call(task)));
+            return;
+        }
+        var executor = Executors.newFixedThreadPool(parallelism, this::newDaemonThread);
+        try {
+            var futures = new ArrayDeque<Future<T>>();
+            for (var task : tasks) {
+                if (futures.size() >= Math.max(1, maxTasksInFlight)) {
+                    resultConsumer.accept(getResult(futures.poll()));
+                }
+                futures.add(executor.submit(task));
+            }
+            while (!futures.isEmpty()) {
+                resultConsumer.accept(getResult(futures.poll()));
+            }
+        } finally {
+            // stop remaining tasks if any of the tasks failed
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> Seq<T> runSequentially(Seq<Callable<T>> tasks) {
+        return tasks.map(this::call);
+    }
+
+    @SneakyThrows
+    private <T> T call(Callable<T> task) {
+        return task.call();
+    }
+
+    private <T> Seq<T> runConcurrently(Seq<Callable<T>> tasks, int threadCount) {
+        var executor = Executors.newFixedThreadPool(threadCount, this::newDaemonThread);
+        try {
+            Seq<Future<T>> futures = tasks.map(executor::submit);
+            return futures.map(this::getResult);
+        } finally {
+            // stop remaining tasks if any of the tasks failed
+            executor.shutdownNow();
+        }
+    }
+
+    private Thread newDaemonThread(Runnable runnable) {
+        // long running tasks (model training) do not react to interruption
+        // daemon threads do not prevent the application from exiting after a failure
+        var thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @SneakyThrows
+    private <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+}
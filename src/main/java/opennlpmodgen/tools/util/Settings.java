@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Map;
+import io.vavr.control.Option;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+@Value
+public class Settings {
+    @NonNull
+    private final Map<String, String> properties;
+
+    public static Settings empty() {
+        return new Settings(HashMap.empty());
+    }
+
+    public static Settings fromProperties(@NonNull Properties properties, @NonNull String prefix) {
+        // only properties with the prefix are settings, the prefix is removed from setting names
+        var settingProperties = HashMap.ofAll(properties)
+                .map((name, value) -> Tuple.of(String.valueOf(name), String.valueOf(value)))
+                .filterKeys(name -> name.startsWith(prefix))
+                .mapKeys(name -> name.substring(prefix.length()));
+        return new Settings(settingProperties);
+    }
+
+    @SneakyThrows
+    public static Settings fromFile(@NonNull Path propertiesPath, @NonNull String prefix) {
+        var properties = new Properties();
+        try (var reader = Files.newBufferedReader(propertiesPath, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties, prefix);
+    }
+
+    public Settings withDefaults(@NonNull Settings defaults) {
+        // settings of this instance override the defaults
+        return new Settings(properties.merge(defaults.getProperties()));
+    }
+
+    public Map<String, String> getByPrefix(@NonNull String prefix) {
+        return properties
+                .filterKeys(name -> name.startsWith(prefix))
+                .mapKeys(name -> name.substring(prefix.length()));
+    }
+
+    public Option<String> getString(@NonNull String name) {
+        return properties.get(name).map(String::trim).filter(value -> !value.isEmpty());
+    }
+
+    public int getInt(@NonNull String name, int defaultValue) {
+        return getString(name).map(Integer::parseInt).getOrElse(defaultValue);
+    }
+
+    public long getLong(@NonNull String name, long defaultValue) {
+        return getString(name).map(Long::parseLong).getOrElse(defaultValue);
+    }
+
+    public double getDouble(@NonNull String name, double defaultValue) {
+        return getString(name).map(Double::parseDouble).getOrElse(defaultValue);
+    }
+
+    public boolean getBoolean(@NonNull String name, boolean defaultValue) {
+        return getString(name).map(Boolean::parseBoolean).getOrElse(defaultValue);
+    }
+}
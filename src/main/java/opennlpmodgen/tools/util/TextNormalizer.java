@@ -13,6 +13,28 @@
  */
 package opennlpmodgen.tools.util;
 
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+
 public interface TextNormalizer {
     public String normalizeText(String text, String language);
+
+    // normalizes a text which is unlikely to repeat (e.g. a whole sentence), caching implementations do not remember it
+    public default String normalizeUniqueText(String text, String language) {
+        return normalizeText(text, language);
+    }
+
+    // texts of the language will not be normalized in bulk anymore, caching implementations release remembered results
+    public default void clearCache(String language) {
+    }
+
+    // true if normalization would not change the text, allows to skip normalization and caching
+    public default boolean isNormalized(String text, String language) {
+        return false;
+    }
+
+    // classes which determine the result of normalization, changes of them invalidate cached results
+    public default Seq<Class<?>> getImplementationClasses() {
+        return Vector.of(getClass());
+    }
 }
@@ -24,4 +24,31 @@ public class LuceneTextNormalizerTest {
     public void normalizeText() {
         assertThat(normalizer.normalizeText("x-Æ-Ꜵ-ąęŁł-ÄØÖ", "lx")).isEqualTo("x-ae-ao-aell-aoo");
     }
+
+    @Test
+    public void normalizeTextAlreadyNormalized() {
+        var text = "x-ab 12.";
+
+        assertThat(normalizer.normalizeText(text, "lx")).isSameAs(text);
+    }
+
+    @Test
+    public void isNormalized() {
+        assertThat(normalizer.isNormalized("x-ab 12.", "lx")).isTrue();
+        assertThat(normalizer.isNormalized("x-Ab", "lx")).isFalse();
+        assertThat(normalizer.isNormalized("x-ą", "lx")).isFalse();
+    }
+
+    @Test
+    public void normalizeTextAscii() {
+        assertThat(normalizer.normalizeText("X-Ab 12.", "lx")).isEqualTo("x-ab 12.");
+    }
+
+    @Test
+    public void normalizeTextLong() {
+        var text = "Ä".repeat(1000);
+
+        assertThat(normalizer.normalizeText(text, "lx")).isEqualTo("a".repeat(1000));
+        assertThat(normalizer.normalizeText("Æ", "lx")).isEqualTo("ae");
+    }
 }
@@ -14,6 +14,7 @@
 package opennlpmodgen.tools;
 
 import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.HashMap;
 import io.vavr.collection.Vector;
 import opennlpmodgen.tools.conllu.ConlluLemmatizerModelProcessor;
 import opennlpmodgen.tools.conllu.ConlluPOSModelProcessor;
@@ -22,10 +23,13 @@ import opennlpmodgen.tools.conllu.ConlluTokenizerModelProcessor;
 import opennlpmodgen.tools.model.ModelAlgorithm;
 import opennlpmodgen.tools.unidep.UniDepConlluDownloader;
 import opennlpmodgen.tools.unidep.util.FilePathSupplier;
+import opennlpmodgen.tools.util.ParallelTaskRunner;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -47,6 +51,10 @@ public class MainProcessorTest {
     private ConlluPOSModelProcessor posModelProcessor;
     @Mock
     private ConlluLemmatizerModelProcessor lemmatizerModelProcessor;
+    @Spy
+    private Settings settings = Settings.empty();
+    @Spy
+    private ParallelTaskRunner taskRunner = new ParallelTaskRunner();
     @InjectMocks
     private MainProcessor processor;
 
@@ -96,4 +104,40 @@ public class MainProcessorTest {
         verify(lemmatizerModelProcessor).processConlluModel(conlluPath, lemmatizerAlgorithms, "lx", lemmatizerModelPath, lemmatizerReportPath);
         verifyNoMoreInteractions(fileSupplier, conlluFileDownloader, sentenceModelProcessor, tokenizerModelProcessor, posModelProcessor, lemmatizerModelProcessor);
     }
+
+    @Test
+    public void processUniDepConlluModelConcurrently() {
+        var concurrentSettings = new Settings(HashMap.of(
+                MainProcessor.PIPELINE_PARALLELISM_SETTING, "4",
+                MainProcessor.PIPELINE_HEAP_BUDGET_SETTING, "1000",
+                "pipeline.lemmatizer.heap.mb", "600",
+                "pipeline.pos-tagger.heap.mb", "300"));
+        var concurrentProcessor = new MainProcessor(fileSupplier, conlluFileDownloader,
+                sentenceModelProcessor, tokenizerModelProcessor, posModelProcessor, lemmatizerModelProcessor,
+                concurrentSettings, taskRunner);
+        var rootPath = Jimfs.newFileSystem().getPath("");
+        var treebankPath = rootPath.resolve("t.tgz");
+        given(fileSupplier.getTreebankFile()).willReturn(treebankPath);
+        var conlluPath = rootPath.resolve("lx.conllu");
+        given(fileSupplier.getConlluFile(any())).willReturn(conlluPath);
+        var modelPath = rootPath.resolve("lx.onlpm");
+        var reportPath = rootPath.resolve("lx.txt");
+        given(fileSupplier.getSentenceModelFile(any())).willReturn(modelPath);
+        given(fileSupplier.getSentenceReportFile(any())).willReturn(reportPath);
+        given(fileSupplier.getTokenizerModelFile(any())).willReturn(modelPath);
+        given(fileSupplier.getTokenizerReportFile(any())).willReturn(reportPath);
+        given(fileSupplier.getPOSModelFile(any())).willReturn(modelPath);
+        given(fileSupplier.getPOSReportFile(any())).willReturn(reportPath);
+        given(fileSupplier.getLemmatizerModelFile(any())).willReturn(modelPath);
+        given(fileSupplier.getLemmatizerReportFile(any())).willReturn(reportPath);
+
+        concurrentProcessor.processUniDepConlluModel("lx");
+
+        verify(conlluFileDownloader).downloadUniDepConlluFile(treebankPath, "lx", conlluPath);
+        verify(sentenceModelProcessor).processConlluModel(conlluPath, MainProcessor.TOKENIZER_ALGORITHMS, "lx", modelPath, reportPath);
+        verify(tokenizerModelProcessor).processConlluModel(conlluPath, MainProcessor.TOKENIZER_ALGORITHMS, "lx", modelPath, reportPath);
+        verify(posModelProcessor).processConlluModel(conlluPath, MainProcessor.POS_ALGORITHMS, "lx", modelPath, reportPath);
+        verify(lemmatizerModelProcessor).processConlluModel(conlluPath, MainProcessor.LEMMATIZER_ALGORITHMS, "lx", modelPath, reportPath);
+        verifyNoMoreInteractions(conlluFileDownloader, sentenceModelProcessor, tokenizerModelProcessor, posModelProcessor, lemmatizerModelProcessor);
+    }
 }
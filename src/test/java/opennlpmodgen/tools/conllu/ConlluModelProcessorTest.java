@@ -14,22 +14,29 @@
 package opennlpmodgen.tools.conllu;
 
 import com.google.common.jimfs.Jimfs;
+import io.vavr.Function0;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Vector;
 import opennlp.tools.util.model.BaseModel;
 import opennlpmodgen.tools.conllu.convert.ConlluSamplesConverter;
+import opennlpmodgen.tools.conllu.parser.ConlluCorpus;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
-import opennlpmodgen.tools.conllu.parser.ConlluSentenceReader;
+import opennlpmodgen.tools.conllu.parser.ConlluSentenceCache;
 import opennlpmodgen.tools.model.ModelProcessor;
 import opennlpmodgen.tools.util.FileUpToDateChecker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Path;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -39,13 +46,15 @@ public class ConlluModelProcessorTest {
     @Mock
     private FileUpToDateChecker checker;
     @Mock
-    private ConlluSentenceReader sentenceReader;
+    private ConlluSentenceCache sentenceCache;
     @Mock
     private ConlluSamplesConverter<String> converter;
     @Mock
     private ModelProcessor<BaseModel, String> modelProcessor;
     @InjectMocks
     private ConlluModelProcessor<?, ?> processor;
+    @Captor
+    private ArgumentCaptor<Function0<Iterator<String>>> samplesCaptor;
 
     @Test
     public void processConlluModel_ModelFileOutOfDate() {
@@ -54,22 +63,21 @@ public class ConlluModelProcessorTest {
         Path modelPath = rootPath.resolve("model.bin");
         Path reportPath = rootPath.resolve("report.txt");
         given(checker.isUpToDate(any(), any(Path.class))).willReturn(false, true);
-        given(sentenceReader.readSentences(any(), any())).willReturn(Vector.of(
+        var corpus = ConlluCorpus.of(Vector.of(
                 new ConlluSentence("s1", Vector.empty()),
                 new ConlluSentence("s2", Vector.empty()),
                 new ConlluSentence("s3", Vector.empty())));
-        given(converter.convert(any(), any())).willReturn(Vector.of("1", "3"));
+        given(sentenceCache.getCorpus(any(), any())).willReturn(corpus);
+        given(converter.iterateSamples(any(), any())).willAnswer(invocation -> Iterator.of("1", "3"));
 
         processor.processConlluModel(conlluPath, Vector.of("a", "b"), "lx", modelPath, reportPath);
 
         verify(checker).isUpToDate(modelPath, conlluPath);
-        verify(sentenceReader).readSentences(conlluPath, "lx");
-        verify(converter).convert(Vector.of(
-                new ConlluSentence("s1", Vector.empty()),
-                new ConlluSentence("s2", Vector.empty()),
-                new ConlluSentence("s3", Vector.empty())), "lx");
-        verify(modelProcessor).processModel(Vector.of("1", "3"), Vector.of("a", "b"), "lx", modelPath, reportPath);
-        verifyNoMoreInteractions(checker, sentenceReader, converter, modelProcessor);
+        verify(sentenceCache).getCorpus(conlluPath, "lx");
+        verify(modelProcessor).processModel(samplesCaptor.capture(), eq(Vector.of("a", "b")), eq("lx"), eq(modelPath), eq(reportPath));
+        assertThat(samplesCaptor.getValue().apply().toVector()).isEqualTo(Vector.of("1", "3"));
+        verify(converter).iterateSamples(any(), eq("lx"));
+        verifyNoMoreInteractions(checker, sentenceCache, converter, modelProcessor);
     }
 
     @Test
@@ -79,23 +87,22 @@ public class ConlluModelProcessorTest {
         Path modelPath = rootPath.resolve("model.bin");
         Path reportPath = rootPath.resolve("report.txt");
         given(checker.isUpToDate(any(), any(Path.class))).willReturn(true, false);
-        given(sentenceReader.readSentences(any(), any())).willReturn(Vector.of(
+        var corpus = ConlluCorpus.of(Vector.of(
                 new ConlluSentence("s1", Vector.empty()),
                 new ConlluSentence("s2", Vector.empty()),
                 new ConlluSentence("s3", Vector.empty())));
-        given(converter.convert(any(), any())).willReturn(Vector.of("1", "3"));
+        given(sentenceCache.getCorpus(any(), any())).willReturn(corpus);
+        given(converter.iterateSamples(any(), any())).willAnswer(invocation -> Iterator.of("1", "3"));
 
         processor.processConlluModel(conlluPath, Vector.of("a", "b"), "lx", modelPath, reportPath);
 
         verify(checker).isUpToDate(modelPath, conlluPath);
         verify(checker).isUpToDate(reportPath, conlluPath);
-        verify(sentenceReader).readSentences(conlluPath, "lx");
-        verify(converter).convert(Vector.of(
-                new ConlluSentence("s1", Vector.empty()),
-                new ConlluSentence("s2", Vector.empty()),
-                new ConlluSentence("s3", Vector.empty())), "lx");
-        verify(modelProcessor).processModel(Vector.of("1", "3"), Vector.of("a", "b"), "lx", modelPath, reportPath);
-        verifyNoMoreInteractions(checker, sentenceReader, converter, modelProcessor);
+        verify(sentenceCache).getCorpus(conlluPath, "lx");
+        verify(modelProcessor).processModel(samplesCaptor.capture(), eq(Vector.of("a", "b")), eq("lx"), eq(modelPath), eq(reportPath));
+        assertThat(samplesCaptor.getValue().apply().toVector()).isEqualTo(Vector.of("1", "3"));
+        verify(converter).iterateSamples(any(), eq("lx"));
+        verifyNoMoreInteractions(checker, sentenceCache, converter, modelProcessor);
     }
 
     @Test
@@ -110,6 +117,6 @@ public class ConlluModelProcessorTest {
 
         verify(checker).isUpToDate(modelPath, conlluPath);
         verify(checker).isUpToDate(reportPath, conlluPath);
-        verifyNoMoreInteractions(checker, sentenceReader, converter, modelProcessor);
+        verifyNoMoreInteractions(checker, sentenceCache, converter, modelProcessor);
     }
 }
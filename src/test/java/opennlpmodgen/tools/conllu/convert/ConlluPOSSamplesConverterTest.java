@@ -15,6 +15,7 @@ package opennlpmodgen.tools.conllu.convert;
 
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import opennlp.tools.postag.POSSample;
@@ -30,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -71,6 +73,19 @@ public class ConlluPOSSamplesConverterTest {
                 Tuple.of(".", "PUNCT")))));
     }
 
+    @Test
+    public void iterateSamplesLazily() {
+        var sentence1 = new ConlluSentence("a", Vector.of(new ConlluWordLine(1, "a", "l1", "NOUN")));
+        var sentence2 = new ConlluSentence("b", Vector.of(new ConlluWordLine(1, "b", "l2", "VERB")));
+        given(validator.isValidForLemmatization(any())).willReturn(true);
+
+        var samples = converter.iterateSamples(Iterator.of(sentence1, sentence2), "lx");
+
+        assertThat(samples.next()).isEqualTo(createSample(Vector.of(Tuple.of("a", "NOUN"))));
+        verify(validator).isValidForLemmatization(sentence1);
+        verify(validator, never()).isValidForLemmatization(sentence2);
+    }
+
     @Test
     public void convertIncorrect() {
         var sentence1 = new ConlluSentence("1", Vector.empty());
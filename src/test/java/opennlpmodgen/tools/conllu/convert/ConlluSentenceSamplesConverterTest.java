@@ -13,15 +13,18 @@
  */
 package opennlpmodgen.tools.conllu.convert;
 
+import io.vavr.collection.HashMap;
 import io.vavr.collection.Vector;
 import opennlp.tools.sentdetect.SentenceSample;
 import opennlp.tools.util.Span;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
 import opennlpmodgen.tools.conllu.util.ConlluValidator;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +36,8 @@ import static org.mockito.Mockito.*;
 public class ConlluSentenceSamplesConverterTest {
     @Mock
     private ConlluValidator validator;
+    @Spy
+    private Settings settings = Settings.empty();
     @InjectMocks
     private ConlluSentenceSamplesConverter converter;
 
@@ -66,6 +71,23 @@ public class ConlluSentenceSamplesConverterTest {
                         new Span(0, 3), new Span(4, 7), new Span(8, 11))));
     }
 
+    @Test
+    public void convertGroupSize() {
+        var groupSizeConverter = new ConlluSentenceSamplesConverter(validator,
+                new Settings(HashMap.of(ConlluSentenceSamplesConverter.GROUP_SIZE_SETTING, "2")));
+        var sentences = Vector.of(
+                new ConlluSentence("a.", Vector.empty()),
+                new ConlluSentence("bc?", Vector.empty()),
+                new ConlluSentence("d", Vector.empty()));
+        given(validator.isValidForTokenization(any())).willReturn(true);
+
+        var samples = groupSizeConverter.convert(sentences, "lx");
+
+        assertThat(samples).isEqualTo(Vector.of(
+                new SentenceSample("a. bc?", new Span(0, 2), new Span(3, 6)),
+                new SentenceSample("d", new Span(0, 1))));
+    }
+
     @Test
     public void convertIncorrect() {
         var sentence1 = new ConlluSentence("1", Vector.empty());
@@ -25,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -52,10 +53,12 @@ public class ConlluTokenSamplesConverterTest {
                 new ConlluWordLine(8, "example", "l8", "VERB"),
                 new ConlluWordLine(9, ".", "l9", "PUNCT")));
         given(validator.isValidForTokenization(any())).willReturn(true);
+        given(validator.getFormOffsets(any())).willReturn(new int[]{0, 5, 13, 16, 19, 22, 26, 33});
 
         var samples = converter.convert(Vector.of(sentence), "lx");
 
         verify(validator).isValidForTokenization(sentence);
+        verify(validator).getFormOffsets(sentence.flattenWords());
         verifyNoMoreInteractions(validator);
         assertThat(samples).isEqualTo(Vector.of(TokenSample.parse("Some example sen|ten|ce ten example|.", "|")));
     }
@@ -73,4 +76,16 @@ public class ConlluTokenSamplesConverterTest {
         verifyNoMoreInteractions(validator);
         assertThat(samples).isEqualTo(Vector.empty());
     }
+
+    @Test
+    public void convertNotMatchingForms() {
+        var sentence = new ConlluSentence("Some example", Vector.of(
+                new ConlluWordLine(1, "Some", "l1", "ADJ"),
+                new ConlluWordLine(2, "sample", "l2", "NOUN")));
+        given(validator.isValidForTokenization(any())).willReturn(true);
+        given(validator.getFormOffsets(any())).willReturn(new int[0]);
+
+        assertThatThrownBy(() -> converter.convert(Vector.of(sentence), "lx"))
+                .isInstanceOf(IllegalStateException.class);
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConlluCorpusTest {
+    private static final Seq<ConlluSentence> SENTENCES = Vector.of(
+            new ConlluSentence("Zum Haus.", Vector.of(
+                    new ConlluWordLine(1, 2, "Zum", Vector.of(
+                            new ConlluWordLine(1, "Zu", "zu", "ADP"),
+                            new ConlluWordLine(2, "dem", "der", "DET"))),
+                    new ConlluWordLine(3, "Haus", "Haus", "NOUN"),
+                    new ConlluWordLine(4, 5, "im", Vector.empty()),
+                    new ConlluWordLine(6, ".", ".", "PUNCT"))),
+            new ConlluSentence("", Vector.empty()),
+            new ConlluSentence("Haus ∑", Vector.of(
+                    new ConlluWordLine(1, "Haus", "Haus", "NOUN"),
+                    new ConlluWordLine(2, "∑", "∑", "_"))));
+
+    @Test
+    public void createCorpus() {
+        ConlluCorpus corpus = ConlluCorpus.of(SENTENCES);
+
+        assertThat(corpus.size()).isEqualTo(3);
+        assertThat(corpus.getWordCount()).isEqualTo(8);
+        assertThat(corpus.getDictionarySize()).isEqualTo(12);
+        assertThat(corpus).containsExactlyElementsOf(SENTENCES);
+        assertThat(corpus.getSentence(2)).isEqualTo(SENTENCES.get(2));
+    }
+
+    @Test
+    public void createLargeCorpus() {
+        Seq<ConlluSentence> sentences = Vector.range(0, 3000).map(i -> new ConlluSentence("s" + i, Vector.of(
+                new ConlluWordLine(1, "w" + i, "l" + i, "NOUN"))));
+
+        ConlluCorpus corpus = ConlluCorpus.of(sentences);
+
+        assertThat(corpus.size()).isEqualTo(3000);
+        assertThat(corpus).containsExactlyElementsOf(sentences);
+    }
+
+    @Test
+    public void createCorpus_TooManyPosTags() {
+        Seq<ConlluSentence> sentences = Vector.of(new ConlluSentence("s", Vector.range(0, 300).map(i -> new ConlluWordLine(i + 1, "w", "l", "T" + i))));
+
+        assertThatThrownBy(() -> ConlluCorpus.of(sentences)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void sharedStrings() {
+        ConlluCorpus corpus = ConlluCorpus.of(SENTENCES);
+
+        assertThat(corpus.getSentence(2).getWords().get(0).getForm()).isSameAs(corpus.getSentence(0).getWords().get(1).getForm());
+    }
+
+    @Test
+    public void createValidatedCorpus() {
+        ConlluCorpus corpus = ConlluCorpus.of(SENTENCES, sentence -> sentence.getText().isEmpty()
+                ? null
+                : new ConlluValidation(sentence.getText().length(), sentence.getWords().size() > 2 ? new int[]{0, 4, 7, 8} : new int[0]));
+
+        assertThat(corpus.getSentence(0).getValidation(sentence -> null)).isEqualTo(new ConlluValidation(9, new int[]{0, 4, 7, 8}));
+        assertThat(corpus.getSentence(1).getValidation(sentence -> null)).isNull();
+        assertThat(corpus.getSentence(2).getValidation(sentence -> null)).isEqualTo(new ConlluValidation(6, new int[0]));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConlluParagraphReaderTest {
+    @Test
+    public void readParagraphs() throws Exception {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Files.writeString(conlluPath, Vector.of(
+                "",
+                "# t1",
+                "a",
+                "",
+                "",
+                " ",
+                "b",
+                "",
+                "# t3").mkString("\r\n"));
+
+        try (var reader = new ConlluParagraphReader(conlluPath)) {
+            assertThat(reader.hasNext()).isTrue();
+            assertThat(reader.hasNext()).isTrue();
+            assertThat(reader.next()).isEqualTo(Vector.of("# t1", "a"));
+            assertThat(reader.next()).isEqualTo(Vector.of(" ", "b"));
+            assertThat(reader.next()).isEqualTo(Vector.of("# t3"));
+            assertThat(reader.hasNext()).isFalse();
+            assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    public void readEmptyFile() throws Exception {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Files.writeString(conlluPath, "\n\n");
+
+        try (var reader = new ConlluParagraphReader(conlluPath)) {
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+}
@@ -15,11 +15,13 @@ package opennlpmodgen.tools.conllu.parser;
 
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
+import opennlpmodgen.tools.conllu.util.ConlluStringInterner;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class ConlluParserTest {
     private ConlluParser parser = new ConlluParser();
+    private ConlluStringInterner interner = new ConlluStringInterner();
 
     @Test
     public void parseSentenceIncorrectFormat() {
@@ -35,7 +37,7 @@ public class ConlluParserTest {
                 "7\tw7\tl7\tNOUN",
                 "8\t.\tl8\tPUNCT");
 
-        ConlluSentence sentence = parser.parse(lines);
+        ConlluSentence sentence = parser.parse(lines, interner);
 
         Assertions.assertThat(sentence).isEqualTo(
                 new ConlluSentence("This sentence has an incorrect format.", Vector.of(
@@ -55,7 +57,7 @@ public class ConlluParserTest {
                 "3\tsentence\tl3\tNOUN",
                 "4\t.\tl4\tPUNCT");
 
-        ConlluSentence sentence = parser.parse(lines);
+        ConlluSentence sentence = parser.parse(lines, interner);
 
         Assertions.assertThat(sentence).isEqualTo(
                 new ConlluSentence("Some example sentence = XYZ.", Vector.of(
@@ -78,7 +80,7 @@ public class ConlluParserTest {
                 "6\tce\tl6\tAUX",
                 "7\t.\tl7\tPUNCT");
 
-        ConlluSentence sentence = parser.parse(lines);
+        ConlluSentence sentence = parser.parse(lines, interner);
 
         Assertions.assertThat(sentence).isEqualTo(
                 new ConlluSentence("Some example sentence = XYZ.", Vector.of(
@@ -92,4 +94,84 @@ public class ConlluParserTest {
                                 new ConlluWordLine(6, "ce", "l6", "AUX"))),
                         new ConlluWordLine(7, ".", "l7", "PUNCT"))));
     }
+
+    @Test
+    public void parseSentenceLineVariants() {
+        Seq<String> lines = Vector.of("# text = First text.",
+                "# text = Second text.",
+                "1\tFirst\tfirst\tADJ\tJJ\tDegree=Pos\t2\tamod\t_\t_",
+                "2-3\tword\t_\t_\t_\t_\t_\t_\t_\t_",
+                "2\two\tl2\tNOUN\t_\t_\t0\troot\t_\t_",
+                "3\trd\tl3\tPART",
+                "3.1\tempty\tempty\tVERB\t_\t_\t_\t_\t2:conj\t_",
+                "4-\tmissing end id",
+                "-5\tmissing start id",
+                "4x\tw4\tl4\tNOUN",
+                "12",
+                "12\tw12",
+                "12\tw12\tl12",
+                "13\t\t\tX");
+
+        ConlluSentence sentence = parser.parse(lines, interner);
+
+        Assertions.assertThat(sentence).isEqualTo(
+                new ConlluSentence("First text.", Vector.of(
+                        new ConlluWordLine(1, "First", "first", "ADJ"),
+                        new ConlluWordLine(2, 3, "word", Vector.of(
+                                new ConlluWordLine(2, "wo", "l2", "NOUN"),
+                                new ConlluWordLine(3, "rd", "l3", "PART"))),
+                        new ConlluWordLine(13, "", "", "X"))));
+    }
+
+    @Test
+    public void parseSentenceTrailingEmptyColumns() {
+        Seq<String> lines = Vector.of("# text = Trailing columns.",
+                "1\tw1\tl1\t",
+                "2\tw2\tl2\t\t\t",
+                "3\tw3\tl3\t\t_",
+                "4-5\t",
+                "6-7\t\t_");
+
+        ConlluSentence sentence = parser.parse(lines, interner);
+
+        // lines are skipped only if the required columns and all columns after them are empty
+        Assertions.assertThat(sentence).isEqualTo(
+                new ConlluSentence("Trailing columns.", Vector.of(
+                        new ConlluWordLine(3, "w3", "l3", ""),
+                        new ConlluWordLine(6, 7, "", Vector.of()))));
+    }
+
+    @Test
+    public void parseSentenceWithoutText() {
+        Seq<String> lines = Vector.of("# sent_id = 1",
+                "1\tword\tlemma\tNOUN");
+
+        ConlluSentence sentence = parser.parse(lines, interner);
+
+        Assertions.assertThat(sentence).isEqualTo(
+                new ConlluSentence("", Vector.of(
+                        new ConlluWordLine(1, "word", "lemma", "NOUN"))));
+    }
+
+    @Test
+    public void parseSentenceWithConsecutiveCompoundWords() {
+        Seq<String> lines = Vector.of("# text = dal del",
+                "1-2\tdal",
+                "1\tda\tda\tADP",
+                "2\til\til\tDET",
+                "3-4\tdel",
+                "3\tde\tde\tADP",
+                "4\tel\tel\tDET");
+
+        ConlluSentence sentence = parser.parse(lines, interner);
+
+        Assertions.assertThat(sentence).isEqualTo(
+                new ConlluSentence("dal del", Vector.of(
+                        new ConlluWordLine(1, 2, "dal", Vector.of(
+                                new ConlluWordLine(1, "da", "da", "ADP"),
+                                new ConlluWordLine(2, "il", "il", "DET"))),
+                        new ConlluWordLine(3, 4, "del", Vector.of(
+                                new ConlluWordLine(3, "de", "de", "ADP"),
+                                new ConlluWordLine(4, "el", "el", "DET"))))));
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.Vector;
+import opennlpmodgen.tools.conllu.util.ConlluValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ConlluSentenceCacheTest {
+    @Mock
+    private ConlluSentenceReader sentenceReader;
+    @Mock
+    private ConlluValidator validator;
+    @InjectMocks
+    private ConlluSentenceCache cache;
+
+    @Test
+    public void getCorpusSameFile() throws Exception {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Files.writeString(conlluPath, "a");
+        given(sentenceReader.readSentences(any(), any())).willReturn(Vector.of(new ConlluSentence("s1", Vector.empty())));
+
+        var corpus1 = cache.getCorpus(conlluPath, "lx");
+        var corpus2 = cache.getCorpus(conlluPath, "lx");
+
+        verify(sentenceReader).readSentences(conlluPath, "lx");
+        verifyNoMoreInteractions(sentenceReader);
+        assertThat(corpus1).containsExactly(new ConlluSentence("s1", Vector.empty()));
+        assertThat(corpus2).isSameAs(corpus1);
+    }
+
+    @Test
+    public void getCorpusModifiedFile() throws Exception {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Files.writeString(conlluPath, "a");
+        Files.setLastModifiedTime(conlluPath, FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+        given(sentenceReader.readSentences(any(), any()))
+                .willReturn(Vector.of(new ConlluSentence("s1", Vector.empty())))
+                .willReturn(Vector.of(new ConlluSentence("s2", Vector.empty())));
+
+        var corpus1 = cache.getCorpus(conlluPath, "lx");
+        Files.setLastModifiedTime(conlluPath, FileTime.from(Instant.parse("2020-01-02T00:00:00Z")));
+        var corpus2 = cache.getCorpus(conlluPath, "lx");
+
+        verify(sentenceReader, times(2)).readSentences(conlluPath, "lx");
+        verifyNoMoreInteractions(sentenceReader);
+        assertThat(corpus1).containsExactly(new ConlluSentence("s1", Vector.empty()));
+        assertThat(corpus2).containsExactly(new ConlluSentence("s2", Vector.empty()));
+    }
+
+    @Test
+    public void getCorpusOtherLanguage() throws Exception {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Files.writeString(conlluPath, "a");
+        given(sentenceReader.readSentences(any(), any()))
+                .willReturn(Vector.of(new ConlluSentence("s1", Vector.empty())))
+                .willReturn(Vector.of(new ConlluSentence("s2", Vector.empty())));
+
+        var corpus1 = cache.getCorpus(conlluPath, "lx");
+        var corpus2 = cache.getCorpus(conlluPath, "ly");
+
+        verify(sentenceReader).readSentences(conlluPath, "lx");
+        verify(sentenceReader).readSentences(conlluPath, "ly");
+        verifyNoMoreInteractions(sentenceReader);
+        assertThat(corpus1).containsExactly(new ConlluSentence("s1", Vector.empty()));
+        assertThat(corpus2).containsExactly(new ConlluSentence("s2", Vector.empty()));
+    }
+}
@@ -14,14 +14,19 @@
 package opennlpmodgen.tools.conllu.parser;
 
 import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.HashMap;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
+import io.vavr.control.Option;
 import opennlpmodgen.tools.conllu.transformer.ConlluTransformers;
 import opennlpmodgen.tools.conllu.util.ConlluNormalizer;
+import opennlpmodgen.tools.util.ParallelTaskRunner;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Files;
@@ -29,7 +34,10 @@ import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -41,6 +49,12 @@ public class ConlluSentenceReaderTest {
     private ConlluTransformers transformers;
     @Mock
     private ConlluNormalizer normalizer;
+    @Mock
+    private ConlluSentenceSnapshot sentenceSnapshot;
+    @Spy
+    private Settings settings = Settings.empty();
+    @Spy
+    private ParallelTaskRunner taskRunner;
     @InjectMocks
     private ConlluSentenceReader reader;
 
@@ -56,7 +70,8 @@ public class ConlluSentenceReaderTest {
                 "b",
                 "",
                 "# t3").mkString("\n"));
-        given(parser.parse(any())).willReturn(
+        given(sentenceSnapshot.readSentences(conlluPath, "x")).willReturn(Option.none());
+        given(parser.parse(any(), any())).willReturn(
                 new ConlluSentence("s1", Vector.empty()),
                 new ConlluSentence("s2", Vector.empty()),
                 new ConlluSentence("s3", Vector.empty()));
@@ -64,27 +79,64 @@ public class ConlluSentenceReaderTest {
                 new ConlluSentence("s1-t", Vector.empty()),
                 new ConlluSentence("s2-t", Vector.empty()),
                 new ConlluSentence("s3-t", Vector.empty()));
-        given(normalizer.normalizeSentence(any(), any())).willReturn(
-                new ConlluSentence("s1-n", Vector.empty()),
-                new ConlluSentence("s2-t", Vector.empty()),
-                new ConlluSentence("s3-t", Vector.empty()));
+        given(normalizer.normalizeSentence(any(), any(), any())).willAnswer(invocation -> invocation.<ConlluSentence>getArgument(0).getText().equals("s1-t")
+                ? new ConlluSentence("s1-n", Vector.empty())
+                : invocation.getArgument(0));
 
         Seq<ConlluSentence> sentences = reader.readSentences(conlluPath, "x");
 
-        verify(parser).parse(Vector.of("# t1", "a"));
+        verify(parser).parse(eq(Vector.of("# t1", "a")), any());
         verify(transformers).transformSentence(new ConlluSentence("s1", Vector.empty()), "x");
-        verify(normalizer).normalizeSentence(new ConlluSentence("s1-t", Vector.empty()), "x");
-        verify(parser).parse(Vector.of("# t2", "b"));
+        verify(normalizer).normalizeSentence(eq(new ConlluSentence("s1-t", Vector.empty())), eq("x"), any());
+        verify(parser).parse(eq(Vector.of("# t2", "b")), any());
         verify(transformers).transformSentence(new ConlluSentence("s2", Vector.empty()), "x");
-        verify(normalizer).normalizeSentence(new ConlluSentence("s2-t", Vector.empty()), "x");
-        verify(parser).parse(Vector.of("# t3"));
+        verify(normalizer).normalizeSentence(eq(new ConlluSentence("s2-t", Vector.empty())), eq("x"), any());
+        verify(parser).parse(eq(Vector.of("# t3")), any());
         verify(transformers).transformSentence(new ConlluSentence("s3", Vector.empty()), "x");
-        verify(normalizer).normalizeSentence(new ConlluSentence("s3-t", Vector.empty()), "x");
+        verify(normalizer).normalizeSentence(eq(new ConlluSentence("s3-t", Vector.empty())), eq("x"), any());
+        verify(normalizer).clearCache("x");
         verifyNoMoreInteractions(parser, transformers, normalizer);
         assertThat(sentences).isEqualTo(Vector.of(
                 new ConlluSentence("s1-t", Vector.empty()),
                 new ConlluSentence("s2-t", Vector.empty()),
                 new ConlluSentence("s3-t", Vector.empty()),
                 new ConlluSentence("s1-n", Vector.empty())));
+        verify(sentenceSnapshot).writeSentences(conlluPath, "x", sentences);
+    }
+
+    @Test
+    public void readSentencesConcurrently() throws Exception {
+        var concurrentSettings = new Settings(HashMap.of(
+                ConlluSentenceReader.PARSING_PARALLELISM_SETTING, "2",
+                ConlluSentenceReader.PARSING_CHUNK_SIZE_SETTING, "2"));
+        var concurrentReader = new ConlluSentenceReader(parser, transformers, normalizer, sentenceSnapshot, concurrentSettings, taskRunner);
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.txt");
+        Files.writeString(conlluPath, Vector.range(1, 8).map(i -> "w" + i).mkString("\n\n"));
+        given(sentenceSnapshot.readSentences(conlluPath, "x")).willReturn(Option.none());
+        given(parser.parse(any(), any())).willAnswer(invocation -> new ConlluSentence(invocation.<Seq<String>>getArgument(0).head(), Vector.empty()));
+        given(transformers.transformSentence(any(), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(normalizer.normalizeSentence(any(), any(), any())).willAnswer(invocation -> new ConlluSentence(invocation.<ConlluSentence>getArgument(0).getText().toUpperCase(), Vector.empty()));
+
+        Seq<ConlluSentence> sentences = concurrentReader.readSentences(conlluPath, "x");
+
+        assertThat(sentences.map(ConlluSentence::getText)).isEqualTo(Vector.of(
+                "w1", "w2", "w3", "w4", "w5", "w6", "w7",
+                "W1", "W2", "W3", "W4", "W5", "W6", "W7"));
+        verify(taskRunner).runTasks(any(), eq(2), eq(4), any());
+        verify(sentenceSnapshot).writeSentences(conlluPath, "x", sentences);
+    }
+
+    @Test
+    public void readSentencesFromSnapshot() {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.txt");
+        given(sentenceSnapshot.readSentences(conlluPath, "x")).willReturn(Option.some(Vector.of(
+                new ConlluSentence("s1", Vector.empty()))));
+
+        Seq<ConlluSentence> sentences = reader.readSentences(conlluPath, "x");
+
+        verifyNoMoreInteractions(parser, transformers, normalizer);
+        verify(sentenceSnapshot, never()).writeSentences(any(), any(), any());
+        assertThat(sentences).isEqualTo(Vector.of(
+                new ConlluSentence("s1", Vector.empty())));
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import opennlpmodgen.tools.conllu.transformer.ConlluDeTransformer;
+import opennlpmodgen.tools.conllu.transformer.ConlluTransformers;
+import opennlpmodgen.tools.conllu.util.ConlluNormalizer;
+import opennlpmodgen.tools.util.FileUpToDateChecker;
+import opennlpmodgen.tools.util.TextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class ConlluSentenceSnapshotTest {
+    private static final Seq<ConlluSentence> SENTENCES = Vector.of(
+            new ConlluSentence("a b", Vector.of(
+                    new ConlluWordLine(1, "a", "a", "NOUN"),
+                    new ConlluWordLine(2, "b", "b", "VERB"))));
+
+    @Mock
+    private FileUpToDateChecker fileUpToDateChecker;
+    @Mock
+    private ConlluParser parser;
+    private ConlluTransformers transformers = new ConlluTransformers();
+    @Mock
+    private ConlluNormalizer normalizer;
+    private TextNormalizer textNormalizer = (text, language) -> text;
+    private ConlluSentenceSnapshot sentenceSnapshot;
+
+    @BeforeEach
+    public void setUp() {
+        sentenceSnapshot = new ConlluSentenceSnapshot(fileUpToDateChecker, parser, transformers, normalizer, textNormalizer);
+    }
+
+    @Test
+    public void getSnapshotPath() {
+        Path conlluPath = Jimfs.newFileSystem().getPath("dir", "file.conllu");
+
+        Path snapshotPath = ConlluSentenceSnapshot.getSnapshotPath(conlluPath);
+
+        assertThat(snapshotPath).isEqualTo(conlluPath.getFileSystem().getPath("dir", "file.conllu.snapshot"));
+    }
+
+    @Test
+    public void getPipelineClasses() {
+        // every class which decides the content or order of sentences must invalidate snapshots when it changes
+        assertThat(sentenceSnapshot.getPipelineClasses()).contains(
+                ConlluSentenceReader.class,
+                ConlluParagraphReader.class,
+                ConlluParser.class,
+                ConlluSentence.class,
+                ConlluWordLine.class,
+                ConlluSnapshotCodec.class,
+                ConlluNormalizer.class,
+                ConlluTransformers.class);
+        assertThat(sentenceSnapshot.getPipelineClasses()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void writeReadSentences() {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Path snapshotPath = ConlluSentenceSnapshot.getSnapshotPath(conlluPath);
+        given(fileUpToDateChecker.isUpToDate(snapshotPath, conlluPath)).willReturn(true);
+
+        sentenceSnapshot.writeSentences(conlluPath, "x", SENTENCES);
+        Option<Seq<ConlluSentence>> sentences = sentenceSnapshot.readSentences(conlluPath, "x");
+
+        assertThat(sentences).isEqualTo(Option.some(SENTENCES));
+        assertThat(Files.exists(snapshotPath.resolveSibling("file.conllu.snapshot.tmp"))).isFalse();
+    }
+
+    @Test
+    public void readSentences_NotUpToDate() {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Path snapshotPath = ConlluSentenceSnapshot.getSnapshotPath(conlluPath);
+        given(fileUpToDateChecker.isUpToDate(snapshotPath, conlluPath)).willReturn(false);
+
+        Option<Seq<ConlluSentence>> sentences = sentenceSnapshot.readSentences(conlluPath, "x");
+
+        assertThat(sentences).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void readSentences_Damaged() throws Exception {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Path snapshotPath = ConlluSentenceSnapshot.getSnapshotPath(conlluPath);
+        sentenceSnapshot.writeSentences(conlluPath, "x", SENTENCES);
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(bytes, bytes.length - 3));
+        given(fileUpToDateChecker.isUpToDate(snapshotPath, conlluPath)).willReturn(true);
+
+        Option<Seq<ConlluSentence>> sentences = sentenceSnapshot.readSentences(conlluPath, "x");
+
+        assertThat(sentences).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void readSentences_OtherPipeline() {
+        Path conlluPath = Jimfs.newFileSystem().getPath("file.conllu");
+        Path snapshotPath = ConlluSentenceSnapshot.getSnapshotPath(conlluPath);
+        var otherSnapshot = new ConlluSentenceSnapshot(fileUpToDateChecker, parser, new ConlluTransformers(new ConlluDeTransformer()), normalizer, textNormalizer);
+        otherSnapshot.writeSentences(conlluPath, "x", SENTENCES);
+        given(fileUpToDateChecker.isUpToDate(snapshotPath, conlluPath)).willReturn(true);
+
+        Option<Seq<ConlluSentence>> sentences = sentenceSnapshot.readSentences(conlluPath, "x");
+
+        assertThat(sentences).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void writeSentences_Failed() throws Exception {
+        Path conlluPath = Jimfs.newFileSystem().getPath("missing", "file.conllu");
+        Path snapshotPath = ConlluSentenceSnapshot.getSnapshotPath(conlluPath);
+
+        sentenceSnapshot.writeSentences(conlluPath, "x", SENTENCES);
+
+        assertThat(Files.exists(snapshotPath)).isFalse();
+        assertThat(Files.exists(snapshotPath.resolveSibling("file.conllu.snapshot.tmp"))).isFalse();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConlluSentenceTest {
+    private static final ConlluSentence SENTENCE = new ConlluSentence("Zum Haus vom", Vector.of(
+            new ConlluWordLine(1, 2, "Zum", Vector.of(
+                    new ConlluWordLine(1, "Zu", "zu", "ADP"),
+                    new ConlluWordLine(2, "m", "der", "DET"))),
+            new ConlluWordLine(3, "Haus", "Haus", "NOUN"),
+            new ConlluWordLine(4, 5, "vom", Vector.of(
+                    new ConlluWordLine(4, "von", "von", "ADP"),
+                    new ConlluWordLine(5, "dem", "der", "DET")))));
+
+    @Test
+    public void flattenWords() {
+        var flattened = SENTENCE.flattenWords();
+
+        assertThat(flattened.getWords().map(ConlluWordLine::getForm)).isEqualTo(Vector.of("Zu", "m", "Haus", "vom"));
+        assertThat(flattened.getValidation(sentence -> null)).isNull();
+    }
+
+    @Test
+    public void flattenWordsWithFormOffsets() {
+        var sentence = new ConlluSentence(SENTENCE.getText(), SENTENCE.getWords(), new ConlluValidation(1, new int[]{0, 4, 9}));
+
+        var flattened = sentence.flattenWords();
+
+        assertThat(flattened.getValidation(s -> null)).isEqualTo(new ConlluValidation(1, new int[]{0, 2, 4, 9}));
+    }
+
+    @Test
+    public void flattenWordsWithoutFormOffsets() {
+        var sentence = new ConlluSentence(SENTENCE.getText(), SENTENCE.getWords(), new ConlluValidation(1, new int[0]));
+
+        var flattened = sentence.flattenWords();
+
+        assertThat(flattened.getValidation(s -> null)).isEqualTo(new ConlluValidation(1, new int[0]));
+    }
+
+    @Test
+    public void validateOnce() {
+        var sentence = new ConlluSentence("", Vector.empty());
+        var validation = new ConlluValidation(1, new int[0]);
+
+        assertThat(sentence.getValidation(s -> validation)).isSameAs(validation);
+        assertThat(sentence.getValidation(s -> null)).isSameAs(validation);
+    }
+}
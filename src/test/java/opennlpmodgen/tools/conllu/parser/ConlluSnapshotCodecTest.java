@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.parser;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConlluSnapshotCodecTest {
+    private static final long FINGERPRINT = 12345L;
+    private static final Seq<ConlluSentence> SENTENCES = Vector.of(
+            new ConlluSentence("Zum Haus.", Vector.of(
+                    new ConlluWordLine(1, 2, "Zum", Vector.of(
+                            new ConlluWordLine(1, "Zu", "zu", "ADP"),
+                            new ConlluWordLine(2, "dem", "der", "DET"))),
+                    new ConlluWordLine(3, "Haus", "Haus", "NOUN"),
+                    new ConlluWordLine(4, ".", ".", "PUNCT"))),
+            new ConlluSentence("Haus ∑", Vector.of(
+                    new ConlluWordLine(1, "Haus", "Haus", "NOUN"),
+                    new ConlluWordLine(2, "∑", "∑", "_"))),
+            new ConlluSentence("", Vector.empty()));
+
+    @Test
+    public void encodeDecode() {
+        ByteBuffer buffer = encode(SENTENCES, "de");
+
+        Option<Seq<ConlluSentence>> sentences = ConlluSnapshotCodec.decode(buffer, "de", FINGERPRINT);
+
+        assertThat(sentences).isEqualTo(Option.some(SENTENCES));
+    }
+
+    @Test
+    public void encodeDecode_SharedStrings() {
+        ByteBuffer buffer = encode(SENTENCES, "de");
+
+        Seq<ConlluSentence> sentences = ConlluSnapshotCodec.decode(buffer, "de", FINGERPRINT).get();
+
+        assertThat(sentences.get(1).getWords().get(0).getForm()).isSameAs(sentences.get(0).getWords().get(1).getForm());
+    }
+
+    @Test
+    public void decode_OtherLanguage() {
+        ByteBuffer buffer = encode(SENTENCES, "de");
+
+        Option<Seq<ConlluSentence>> sentences = ConlluSnapshotCodec.decode(buffer, "en", FINGERPRINT);
+
+        assertThat(sentences).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void decode_OtherPipeline() {
+        ByteBuffer buffer = encode(SENTENCES, "de");
+
+        Option<Seq<ConlluSentence>> sentences = ConlluSnapshotCodec.decode(buffer, "de", FINGERPRINT + 1);
+
+        assertThat(sentences).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void decode_NotSnapshot() {
+        Option<Seq<ConlluSentence>> sentences = ConlluSnapshotCodec.decode(ByteBuffer.wrap("# text".getBytes()), "de", FINGERPRINT);
+
+        assertThat(sentences).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void decode_Empty() {
+        Option<Seq<ConlluSentence>> sentences = ConlluSnapshotCodec.decode(ByteBuffer.allocate(0), "de", FINGERPRINT);
+
+        assertThat(sentences).isEqualTo(Option.none());
+    }
+
+    private ByteBuffer encode(Seq<ConlluSentence> sentences, String language) {
+        var out = new ByteArrayOutputStream();
+        ConlluSnapshotCodec.encode(sentences, language, FINGERPRINT, out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
@@ -21,11 +21,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -33,21 +33,25 @@ import static org.mockito.Mockito.*;
 public class ConlluNormalizerTest {
     @Mock
     private TextNormalizer textNormalizer;
+    @Spy
+    private ConlluStringInterner interner;
     @InjectMocks
     private ConlluNormalizer normalizer;
 
     @Test
     public void normalizeSentence() {
-        given(textNormalizer.normalizeText(any(), any())).willAnswer(answer -> answer.getArgument(0).toString().replace("x", "X"));
+        given(textNormalizer.normalizeUniqueText(any(), any())).willAnswer(answer -> answer.<String>getArgument(0).replace("x", "X"));
+        given(textNormalizer.normalizeText(any(), any())).willAnswer(answer -> answer.<String>getArgument(0).replace("x", "X"));
         var sentence = new ConlluSentence("x sentence x", Vector.of(
                 new ConlluWordLine(1, 2, "fx12", Vector.of(
                         new ConlluWordLine(1, "fx1", "lx1", "ADJ"),
                         new ConlluWordLine(2, "fx2", "lx2", "ADV"))),
                 new ConlluWordLine(3, "fx3", "lx3", "VERB")));
 
-        var actual = normalizer.normalizeSentence(sentence, "lx");
+        var actual = normalizer.normalizeSentence(sentence, "lx", interner);
 
-        verify(textNormalizer, times(8)).normalizeText(any(), eq("lx"));
+        verify(textNormalizer).normalizeUniqueText("x sentence x", "lx");
+        Vector.of("fx12", "fx1", "lx1", "fx2", "lx2", "fx3", "lx3").forEach(text -> verify(textNormalizer).normalizeText(text, "lx"));
         verifyNoMoreInteractions(textNormalizer);
         assertThat(actual).isEqualTo(new ConlluSentence("X sentence X", Vector.of(
                 new ConlluWordLine(1, 2, "fX12", Vector.of(
@@ -55,4 +59,28 @@ public class ConlluNormalizerTest {
                         new ConlluWordLine(2, "fX2", "lX2", "ADV"))),
                 new ConlluWordLine(3, "fX3", "lX3", "VERB"))));
     }
+
+    @Test
+    public void normalizeSentenceNotChanged() {
+        given(textNormalizer.normalizeUniqueText(any(), any())).willAnswer(answer -> answer.getArgument(0));
+        given(textNormalizer.normalizeText(any(), any())).willAnswer(answer -> answer.getArgument(0));
+        var sentence = new ConlluSentence("x sentence", Vector.of(
+                new ConlluWordLine(1, "x", "x", "NOUN"),
+                new ConlluWordLine(2, "sentence", "sentence", "NOUN")));
+
+        var actual = normalizer.normalizeSentence(sentence, "lx", interner);
+
+        assertThat(actual).isSameAs(sentence);
+        // repeated texts are normalized once
+        verify(textNormalizer).normalizeText("x", "lx");
+        verify(textNormalizer).normalizeText("sentence", "lx");
+        verifyNoInteractions(interner);
+    }
+
+    @Test
+    public void clearCache() {
+        normalizer.clearCache("lx");
+
+        verify(textNormalizer).clearCache("lx");
+    }
 }
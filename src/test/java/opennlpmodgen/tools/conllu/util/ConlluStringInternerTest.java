@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.conllu.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConlluStringInternerTest {
+    private ConlluStringInterner interner = new ConlluStringInterner();
+
+    @Test
+    public void intern() {
+        var string1 = new String("der");
+        var string2 = new String("der");
+
+        var interned1 = interner.intern(string1);
+        var interned2 = interner.intern(string2);
+        var interned3 = interner.intern("die");
+
+        assertThat(interned1).isSameAs(string1);
+        assertThat(interned2).isSameAs(string1);
+        assertThat(interned3).isEqualTo("die");
+        assertThat(interner.getUniqueCount()).isEqualTo(2);
+        assertThat(interner.getTotalCount()).isEqualTo(3);
+        interner.logStatistics("lx");
+    }
+
+    @Test
+    public void logStatisticsEmpty() {
+        interner.logStatistics("lx");
+
+        assertThat(interner.getTotalCount()).isEqualTo(0);
+    }
+}
@@ -15,6 +15,7 @@ package opennlpmodgen.tools.conllu.util;
 
 import io.vavr.collection.Vector;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
+import opennlpmodgen.tools.conllu.parser.ConlluValidation;
 import opennlpmodgen.tools.conllu.parser.ConlluWordLine;
 import org.junit.jupiter.api.Test;
 
@@ -174,4 +175,45 @@ public class ConlluValidatorHelperTest {
                 new ConlluWordLine(4, "abc", "l4", "VERB")));
         assertThat(validator.textEqualsConcatenatedForms(sentence)).isTrue();
     }
+
+    @Test
+    public void validateAll() {
+        var sentence = new ConlluSentence("xyz abc.", Vector.of(
+                new ConlluWordLine(1, "xyz", "l1", "NOUN"),
+                new ConlluWordLine(2, 3, "abc", Vector.of(
+                        new ConlluWordLine(2, "ab", "l2", "ADJ"),
+                        new ConlluWordLine(3, "c", "l3", "ADV"))),
+                new ConlluWordLine(4, ".", ".", "PUNCT")));
+        assertThat(validator.validate(sentence)).isEqualTo(new ConlluValidation(ConlluValidatorHelper.VALIDATED
+                | ConlluValidatorHelper.NOT_EMPTY
+                | ConlluValidatorHelper.FORMS_VALID
+                | ConlluValidatorHelper.TEXT_EQUALS_CONCATENATED_FORMS
+                | ConlluValidatorHelper.LEMMAS_VALID
+                | ConlluValidatorHelper.POS_TAGS_VALID, new int[]{0, 4, 7}));
+
+        sentence = new ConlluSentence("xyz abc", Vector.of(
+                new ConlluWordLine(1, "xyz", "_", "NOUN"),
+                new ConlluWordLine(2, 3, "abd", Vector.of(
+                        new ConlluWordLine(2, "ab", "l2", "X1"),
+                        new ConlluWordLine(3, "d", "l3", "ADV")))));
+        assertThat(validator.validate(sentence)).isEqualTo(new ConlluValidation(ConlluValidatorHelper.VALIDATED
+                | ConlluValidatorHelper.NOT_EMPTY
+                | ConlluValidatorHelper.FORMS_VALID, new int[0]));
+    }
+
+    @Test
+    public void validateFormOffsets() {
+        assertThat(formOffsets("ab c.", "a", "b", "c", ".")).containsExactly(0, 1, 3, 4);
+        assertThat(formOffsets("")).isEmpty();
+        assertThat(formOffsets(" ab", "ab")).isEmpty();
+        assertThat(formOffsets("ab  c", "ab", "c")).isEmpty();
+        assertThat(formOffsets("ab c", "ab", "d")).isEmpty();
+        assertThat(formOffsets("ab c", "ab")).isEmpty();
+        assertThat(formOffsets("ab ", "ab", "c")).isEmpty();
+    }
+
+    private int[] formOffsets(String text, String... forms) {
+        var words = Vector.of(forms).zipWithIndex().map(form -> new ConlluWordLine(form._2 + 1, form._1, "l", "X"));
+        return validator.validate(new ConlluSentence(text, words)).getFormOffsets();
+    }
 }
@@ -15,6 +15,7 @@ package opennlpmodgen.tools.conllu.util;
 
 import io.vavr.collection.Vector;
 import opennlpmodgen.tools.conllu.parser.ConlluSentence;
+import opennlpmodgen.tools.conllu.parser.ConlluValidation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -23,7 +24,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static opennlpmodgen.tools.conllu.util.ConlluValidatorHelper.FORMS_VALID;
+import static opennlpmodgen.tools.conllu.util.ConlluValidatorHelper.LEMMAS_VALID;
+import static opennlpmodgen.tools.conllu.util.ConlluValidatorHelper.NOT_EMPTY;
+import static opennlpmodgen.tools.conllu.util.ConlluValidatorHelper.POS_TAGS_VALID;
+import static opennlpmodgen.tools.conllu.util.ConlluValidatorHelper.TEXT_EQUALS_CONCATENATED_FORMS;
+import static opennlpmodgen.tools.conllu.util.ConlluValidatorHelper.VALIDATED;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class ConlluValidatorTest {
@@ -34,60 +43,40 @@ public class ConlluValidatorTest {
 
     @Test
     public void isValidForTokenization() {
-        var sentence = new ConlluSentence("", Vector.empty());
-
-        given(helper.notEmpty(any())).willReturn(false);
-        assertThat(validator.isValidForTokenization(sentence)).isFalse();
-
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(false);
-        assertThat(validator.isValidForTokenization(sentence)).isFalse();
-
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(true);
-        given(helper.textEqualsConcatenatedForms(any())).willReturn(false);
-        assertThat(validator.isValidForTokenization(sentence)).isFalse();
-
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(true);
-        given(helper.textEqualsConcatenatedForms(any())).willReturn(true);
-        assertThat(validator.isValidForTokenization(sentence)).isTrue();
+        assertThat(validator.isValidForTokenization(validated(NOT_EMPTY | FORMS_VALID | LEMMAS_VALID | POS_TAGS_VALID))).isFalse();
+        assertThat(validator.isValidForTokenization(validated(NOT_EMPTY | TEXT_EQUALS_CONCATENATED_FORMS | LEMMAS_VALID | POS_TAGS_VALID))).isFalse();
+        assertThat(validator.isValidForTokenization(validated(FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS | LEMMAS_VALID | POS_TAGS_VALID))).isFalse();
+        assertThat(validator.isValidForTokenization(validated(NOT_EMPTY | FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS))).isTrue();
     }
 
     @Test
     public void isValidForLemmatization() {
-        var sentence = new ConlluSentence("", Vector.empty());
-
-        given(helper.notEmpty(any())).willReturn(false);
-        assertThat(validator.isValidForLemmatization(sentence)).isFalse();
-
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(false);
-        assertThat(validator.isValidForLemmatization(sentence)).isFalse();
+        assertThat(validator.isValidForLemmatization(validated(NOT_EMPTY | FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS))).isFalse();
+        assertThat(validator.isValidForLemmatization(validated(NOT_EMPTY | FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS | LEMMAS_VALID))).isFalse();
+        assertThat(validator.isValidForLemmatization(validated(NOT_EMPTY | FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS | POS_TAGS_VALID))).isFalse();
+        assertThat(validator.isValidForLemmatization(validated(FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS | LEMMAS_VALID | POS_TAGS_VALID))).isFalse();
+        assertThat(validator.isValidForLemmatization(validated(NOT_EMPTY | FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS | LEMMAS_VALID | POS_TAGS_VALID))).isTrue();
+    }
 
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(true);
-        given(helper.textEqualsConcatenatedForms(any())).willReturn(false);
-        assertThat(validator.isValidForLemmatization(sentence)).isFalse();
+    @Test
+    public void validateOnce() {
+        var sentence = new ConlluSentence("", Vector.empty());
+        var validation = new ConlluValidation(VALIDATED | NOT_EMPTY | FORMS_VALID | TEXT_EQUALS_CONCATENATED_FORMS, new int[]{0, 2});
+        given(helper.validate(any())).willReturn(validation);
 
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(true);
-        given(helper.textEqualsConcatenatedForms(any())).willReturn(true);
-        given(helper.lemmasValid(any())).willReturn(false);
+        assertThat(validator.isValidForTokenization(sentence)).isTrue();
         assertThat(validator.isValidForLemmatization(sentence)).isFalse();
+        assertThat(validator.getFormOffsets(sentence)).containsExactly(0, 2);
+        assertThat(validator.validate(sentence)).isSameAs(validation);
 
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(true);
-        given(helper.textEqualsConcatenatedForms(any())).willReturn(true);
-        given(helper.lemmasValid(any())).willReturn(true);
-        given(helper.posTagsValid(any())).willReturn(false);
-        assertThat(validator.isValidForLemmatization(sentence)).isFalse();
+        verify(helper).validate(sentence);
+        verifyNoMoreInteractions(helper);
+    }
 
-        given(helper.notEmpty(any())).willReturn(true);
-        given(helper.formsValid(any())).willReturn(true);
-        given(helper.textEqualsConcatenatedForms(any())).willReturn(true);
-        given(helper.lemmasValid(any())).willReturn(true);
-        given(helper.posTagsValid(any())).willReturn(true);
-        assertThat(validator.isValidForLemmatization(sentence)).isTrue();
+    private ConlluSentence validated(int flags) {
+        // every check creates a new sentence, so the remembered result of previous check is not used
+        var sentence = new ConlluSentence("", Vector.empty());
+        given(helper.validate(sentence)).willReturn(new ConlluValidation(VALIDATED | flags, new int[0]));
+        return sentence;
     }
 }
@@ -14,26 +14,43 @@
 package opennlpmodgen.tools.model;
 
 import com.google.common.jimfs.Jimfs;
+import io.vavr.Function0;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
 import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import io.vavr.control.Option;
+import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.model.BaseModel;
+import opennlpmodgen.tools.model.codec.SampleCodecs;
 import opennlpmodgen.tools.model.train.ModelEvaluator;
 import opennlpmodgen.tools.model.train.ModelTrainer;
 import opennlpmodgen.tools.model.util.EvalReportPersister;
+import opennlpmodgen.tools.model.util.ForkedTrainingRunner;
 import opennlpmodgen.tools.model.util.ModelPersister;
+import opennlpmodgen.tools.model.util.SampleSpiller;
 import opennlpmodgen.tools.model.util.SampleSplitter;
+import opennlpmodgen.tools.model.util.SampleSubsampler;
+import opennlpmodgen.tools.model.util.TrainingExecutor;
+import opennlpmodgen.tools.util.ParallelTaskRunner;
+import opennlpmodgen.tools.util.Settings;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -49,8 +66,16 @@ public class ModelProcessorTest {
     private ModelPersister modelPersister;
     @Mock
     private EvalReportPersister evalReportPersister;
+    @Spy
+    private TrainingExecutor trainingExecutor = new TrainingExecutor(Settings.empty(), new ParallelTaskRunner());
+    @Spy
+    private SampleSpiller sampleSpiller = new SampleSpiller(Settings.empty(), new SampleCodecs());
+    @Spy
+    private SampleSubsampler sampleSubsampler = new SampleSubsampler(Settings.empty());
+    @Spy
+    private ForkedTrainingRunner forkedTrainingRunner = new ForkedTrainingRunner(Settings.empty(), new SampleCodecs(), new ModelPersister());
     @InjectMocks
-    private ModelProcessor processor;
+    private ModelProcessor<BaseModel, String> processor;
 
     @Test
     public void processModel() throws Exception {
@@ -59,30 +84,36 @@ public class ModelProcessorTest {
         Path rootPath = Jimfs.newFileSystem().getPath("root");
         Path modelPath = rootPath.resolve("model.bin");
         Path reportPath = rootPath.resolve("report.txt");
-        Seq<String> samples = Vector.of("a", "b", "c");
-        Seq<String> trainSamples = Vector.of("a", "b");
-        Seq<String> evalSamples = Vector.of("c");
+        Function0<Iterator<String>> samples = () -> Iterator.of("a", "b", "c");
+        Function0<Iterator<String>> trainSamples = () -> Iterator.of("a", "b");
+        Function0<Iterator<String>> evalSamples = () -> Iterator.of("c");
         given(splitter.<String>splitSamples(any())).willReturn(Tuple.of(trainSamples, evalSamples));
         BaseModel modelA = mock(BaseModel.class);
         BaseModel modelB = mock(BaseModel.class);
         BaseModel modelC = mock(BaseModel.class);
-        given(trainer.trainModel(any(), any(), any())).willReturn(Option.some(modelA), Option.some(modelB), Option.some(modelC));
+        given(trainer.trainModel(any(), any(), anySamples()))
+                .willReturn(Option.some(modelA))
+                .willReturn(Option.some(modelB))
+                .willReturn(Option.some(modelC));
         Tuple2<Double, String> evalInfoA = Tuple.of(0.1, "ma");
         Tuple2<Double, String> evalInfoB = Tuple.of(0.9, "mb");
         Tuple2<Double, String> evalInfoC = Tuple.of(0.9, "mc");
-        given(evaluator.evaluateModel(any(), any())).willReturn(evalInfoA, evalInfoB, evalInfoC);
+        given(evaluator.evaluateModel(any(), anySamples()))
+                .willReturn(evalInfoA)
+                .willReturn(evalInfoB)
+                .willReturn(evalInfoC);
 
         processor.processModel(samples, algorithms, language, modelPath, reportPath);
 
         verify(splitter).splitSamples(samples);
-        verify(trainer).trainModel("a", language, trainSamples);
-        verify(evaluator).evaluateModel(modelA, evalSamples);
-        verify(trainer).trainModel("b", language, trainSamples);
-        verify(evaluator).evaluateModel(modelB, evalSamples);
-        verify(trainer).trainModel("c", language, trainSamples);
-        verify(evaluator).evaluateModel(modelC, evalSamples);
+        verify(trainer).trainModel(eq("a"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(evaluator).evaluateModel(eq(modelA), argThat(samplesEqualTo("c")));
+        verify(trainer).trainModel(eq("b"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(evaluator).evaluateModel(eq(modelB), argThat(samplesEqualTo("c")));
+        verify(trainer).trainModel(eq("c"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(evaluator).evaluateModel(eq(modelC), argThat(samplesEqualTo("c")));
         verify(modelPersister).writeModel(modelB, modelPath);
-        verify(evalReportPersister).writeEvaluationReport(0.9, 2, 1, "b", modelB, "mb", reportPath);
+        verify(evalReportPersister).writeEvaluationReport(0.9, 2, 1, "b", Vector.empty(), modelB, "mb", reportPath);
         verifyNoMoreInteractions(splitter, trainer, evaluator, modelPersister, evalReportPersister);
     }
 
@@ -93,18 +124,154 @@ public class ModelProcessorTest {
         Path rootPath = Jimfs.newFileSystem().getPath("root");
         Path modelPath = rootPath.resolve("model.bin");
         Path reportPath = rootPath.resolve("report.txt");
-        Seq<String> samples = Vector.of("a", "b", "c");
-        Seq<String> trainSamples = Vector.of("a", "b");
-        Seq<String> evalSamples = Vector.of("c");
+        Function0<Iterator<String>> samples = () -> Iterator.of("a", "b", "c");
+        Function0<Iterator<String>> trainSamples = () -> Iterator.of("a", "b");
+        Function0<Iterator<String>> evalSamples = () -> Iterator.of("c");
         given(splitter.<String>splitSamples(any())).willReturn(Tuple.of(trainSamples, evalSamples));
-        given(trainer.trainModel(any(), any(), any())).willReturn(Option.none());
+        given(trainer.trainModel(any(), any(), anySamples())).willReturn(Option.none());
 
         processor.processModel(samples, algorithms, language, modelPath, reportPath);
 
         verify(splitter).splitSamples(samples);
-        verify(trainer).trainModel("a", language, trainSamples);
-        verify(trainer).trainModel("b", language, trainSamples);
-        verify(trainer).trainModel("c", language, trainSamples);
+        verify(trainer).trainModel(eq("a"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(trainer).trainModel(eq("b"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(trainer).trainModel(eq("c"), eq(language), argThat(samplesEqualTo("a", "b")));
         verifyNoMoreInteractions(splitter, trainer, evaluator, modelPersister, evalReportPersister);
     }
+
+    @Test
+    public void processModelConcurrently() throws Exception {
+        var settings = new Settings(HashMap.of(TrainingExecutor.PARALLELISM_SETTING, "3"));
+        var concurrentProcessor = new ModelProcessor<>(splitter, trainer, evaluator, modelPersister, evalReportPersister,
+                new TrainingExecutor(settings, new ParallelTaskRunner()), sampleSpiller, sampleSubsampler, forkedTrainingRunner);
+        Seq<String> algorithms = Vector.of("a", "b", "c");
+        String language = "lx";
+        Path rootPath = Jimfs.newFileSystem().getPath("root");
+        Path modelPath = rootPath.resolve("model.bin");
+        Path reportPath = rootPath.resolve("report.txt");
+        Function0<Iterator<String>> samples = () -> Iterator.of("a", "b", "c");
+        Function0<Iterator<String>> trainSamples = () -> Iterator.of("a", "b");
+        Function0<Iterator<String>> evalSamples = () -> Iterator.of("c");
+        given(splitter.<String>splitSamples(any())).willReturn(Tuple.of(trainSamples, evalSamples));
+        BaseModel modelA = mock(BaseModel.class);
+        BaseModel modelB = mock(BaseModel.class);
+        BaseModel modelC = mock(BaseModel.class);
+        given(trainer.trainModel(eq("a"), any(), anySamples())).willReturn(Option.some(modelA));
+        given(trainer.trainModel(eq("b"), any(), anySamples())).willReturn(Option.some(modelB));
+        given(trainer.trainModel(eq("c"), any(), anySamples())).willReturn(Option.some(modelC));
+        given(evaluator.evaluateModel(eq(modelA), anySamples())).willReturn(Tuple.of(0.5, "ma"));
+        given(evaluator.evaluateModel(eq(modelB), anySamples())).willReturn(Tuple.of(0.7, "mb"));
+        given(evaluator.evaluateModel(eq(modelC), anySamples())).willReturn(Tuple.of(0.7, "mc"));
+
+        concurrentProcessor.processModel(samples, algorithms, language, modelPath, reportPath);
+
+        verify(splitter).splitSamples(samples);
+        verify(trainer).trainModel(eq("a"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(evaluator).evaluateModel(eq(modelA), argThat(samplesEqualTo("c")));
+        verify(trainer).trainModel(eq("b"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(evaluator).evaluateModel(eq(modelB), argThat(samplesEqualTo("c")));
+        verify(trainer).trainModel(eq("c"), eq(language), argThat(samplesEqualTo("a", "b")));
+        verify(evaluator).evaluateModel(eq(modelC), argThat(samplesEqualTo("c")));
+        verify(modelPersister).writeModel(modelB, modelPath);
+        verify(evalReportPersister).writeEvaluationReport(0.7, 2, 1, "b", Vector.empty(), modelB, "mb", reportPath);
+        verifyNoMoreInteractions(splitter, trainer, evaluator, modelPersister, evalReportPersister);
+    }
+
+    @Test
+    public void processModelSuccessiveHalving() throws Exception {
+        var settings = new Settings(HashMap.of(SampleSubsampler.SUBSAMPLE_FRACTION_SETTING, "0.5"));
+        var halvingProcessor = new ModelProcessor<>(splitter, trainer, evaluator, modelPersister, evalReportPersister,
+                trainingExecutor, sampleSpiller, new SampleSubsampler(settings), forkedTrainingRunner);
+        Seq<String> algorithms = Vector.of("a", "b", "c");
+        String language = "lx";
+        Path rootPath = Jimfs.newFileSystem().getPath("root");
+        Path modelPath = rootPath.resolve("model.bin");
+        Path reportPath = rootPath.resolve("report.txt");
+        Function0<Iterator<String>> samples = () -> Iterator.of("a", "b", "c", "d", "e");
+        Function0<Iterator<String>> trainSamples = () -> Iterator.of("a", "b", "c", "d");
+        Function0<Iterator<String>> evalSamples = () -> Iterator.of("e");
+        given(splitter.<String>splitSamples(any())).willReturn(Tuple.of(trainSamples, evalSamples));
+        BaseModel modelA = mock(BaseModel.class);
+        BaseModel modelB = mock(BaseModel.class);
+        BaseModel modelC = mock(BaseModel.class);
+        BaseModel fullModelB = mock(BaseModel.class);
+        BaseModel fullModelC = mock(BaseModel.class);
+        given(trainer.trainModel(eq("a"), any(), anySamples())).willReturn(Option.some(modelA));
+        given(trainer.trainModel(eq("b"), any(), anySamples()))
+                .willReturn(Option.some(modelB))
+                .willReturn(Option.some(fullModelB));
+        given(trainer.trainModel(eq("c"), any(), anySamples()))
+                .willReturn(Option.some(modelC))
+                .willReturn(Option.some(fullModelC));
+        given(evaluator.evaluateModel(eq(modelA), anySamples())).willReturn(Tuple.of(0.1, "ma"));
+        given(evaluator.evaluateModel(eq(modelB), anySamples())).willReturn(Tuple.of(0.9, "mb"));
+        given(evaluator.evaluateModel(eq(modelC), anySamples())).willReturn(Tuple.of(0.5, "mc"));
+        given(evaluator.evaluateModel(eq(fullModelB), anySamples())).willReturn(Tuple.of(0.6, "fmb"));
+        given(evaluator.evaluateModel(eq(fullModelC), anySamples())).willReturn(Tuple.of(0.8, "fmc"));
+
+        halvingProcessor.processModel(samples, algorithms, language, modelPath, reportPath);
+
+        verify(splitter).splitSamples(samples);
+        verify(trainer).trainModel(eq("a"), eq(language), argThat(samplesEqualTo("b", "d")));
+        verify(trainer).trainModel(eq("b"), eq(language), argThat(samplesEqualTo("b", "d")));
+        verify(trainer).trainModel(eq("b"), eq(language), argThat(samplesEqualTo("a", "b", "c", "d")));
+        verify(trainer).trainModel(eq("c"), eq(language), argThat(samplesEqualTo("b", "d")));
+        verify(trainer).trainModel(eq("c"), eq(language), argThat(samplesEqualTo("a", "b", "c", "d")));
+        verify(evaluator).evaluateModel(eq(modelA), argThat(samplesEqualTo("e")));
+        verify(evaluator).evaluateModel(eq(modelB), argThat(samplesEqualTo("e")));
+        verify(evaluator).evaluateModel(eq(modelC), argThat(samplesEqualTo("e")));
+        verify(evaluator).evaluateModel(eq(fullModelB), argThat(samplesEqualTo("e")));
+        verify(evaluator).evaluateModel(eq(fullModelC), argThat(samplesEqualTo("e")));
+        verify(modelPersister).writeModel(fullModelC, modelPath);
+        verify(evalReportPersister).writeEvaluationReport(0.8, 4, 1, "c", Vector.empty(), fullModelC, "fmc", reportPath);
+        verifyNoMoreInteractions(splitter, trainer, evaluator, modelPersister, evalReportPersister);
+    }
+
+    @Test
+    public void processModelTimeBudgetExceeded() throws Exception {
+        var settings = new Settings(HashMap.of(TrainingExecutor.TIME_BUDGET_SETTING, "0.005"));
+        var budgetProcessor = new ModelProcessor<>(splitter, trainer, evaluator, modelPersister, evalReportPersister,
+                new TrainingExecutor(settings, new ParallelTaskRunner()), sampleSpiller, sampleSubsampler, forkedTrainingRunner);
+        Seq<String> algorithms = Vector.of("a", "b");
+        String language = "lx";
+        Path rootPath = Jimfs.newFileSystem().getPath("root");
+        Path modelPath = rootPath.resolve("model.bin");
+        Path reportPath = rootPath.resolve("report.txt");
+        Function0<Iterator<String>> samples = () -> Iterator.of("a", "b", "c");
+        Function0<Iterator<String>> trainSamples = () -> Iterator.of("a", "b");
+        Function0<Iterator<String>> evalSamples = () -> Iterator.of("c");
+        given(splitter.<String>splitSamples(any())).willReturn(Tuple.of(trainSamples, evalSamples));
+        BaseModel modelB = mock(BaseModel.class);
+        given(trainer.trainModel(eq("a"), any(), anySamples())).willAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return Option.none();
+        });
+        given(trainer.trainModel(eq("b"), any(), anySamples())).willReturn(Option.some(modelB));
+        given(evaluator.evaluateModel(eq(modelB), anySamples())).willReturn(Tuple.of(0.7, "mb"));
+
+        budgetProcessor.processModel(samples, algorithms, language, modelPath, reportPath);
+
+        verify(modelPersister).writeModel(modelB, modelPath);
+        verify(evalReportPersister).writeEvaluationReport(0.7, 2, 1, "b", Vector.of("a (time budget of 0.005 minutes exceeded)"), modelB, "mb", reportPath);
+    }
+
+    private static ObjectStream<String> anySamples() {
+        // typed matcher, trainers and evaluators accept sample streams and sample sequences
+        return any();
+    }
+
+    private static ArgumentMatcher<ObjectStream<String>> samplesEqualTo(String... expectedSamples) {
+        return samples -> readSamples(samples).equals(Vector.of(expectedSamples));
+    }
+
+    @SneakyThrows
+    private static Seq<String> readSamples(ObjectStream<String> samples) {
+        // the stream is reset first, so it can be read by every matcher
+        samples.reset();
+        var readSamples = new ArrayList<String>();
+        for (var sample = samples.read(); sample != null; sample = samples.read()) {
+            readSamples.add(sample);
+        }
+        return Vector.ofAll(readSamples);
+    }
 }
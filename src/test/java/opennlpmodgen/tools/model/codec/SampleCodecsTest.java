@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import opennlp.tools.lemmatizer.LemmaSample;
+import opennlp.tools.postag.POSSample;
+import opennlp.tools.sentdetect.SentenceSample;
+import opennlp.tools.tokenize.TokenSample;
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SampleCodecsTest {
+    private SampleCodecs codecs = new SampleCodecs(new POSSampleCodec(), new LemmaSampleCodec(), new TokenSampleCodec(), new SentenceSampleCodec());
+
+    @Test
+    public void getCodec() {
+        assertThat(codecs.getCodec(POSSample.class).get()).isInstanceOf(POSSampleCodec.class);
+        assertThat(codecs.getCodec(String.class).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void roundTripPOSSample() {
+        assertRoundTrip(new POSSample(new String[]{"Zum", "Haus", "."}, new String[]{"ADP DET", "NOUN", "PUNCT"}));
+        assertRoundTrip(new POSSample(new String[]{"a"}, new String[]{"X"}, new String[][]{{"c1", "c2"}}));
+    }
+
+    @Test
+    public void roundTripLemmaSample() {
+        assertRoundTrip(new LemmaSample(new String[]{"Häuser", "."}, new String[]{"NOUN", "PUNCT"}, new String[]{"Haus", "."}));
+    }
+
+    @Test
+    public void roundTripTokenSample() {
+        assertRoundTrip(TokenSample.parse("Some example sen|ten|ce.", "|"));
+    }
+
+    @Test
+    public void roundTripSentenceSample() {
+        assertRoundTrip(new SentenceSample("First. Second.", new Span(0, 6), new Span(7, 14)));
+    }
+
+    private <S extends Serializable> void assertRoundTrip(S sample) {
+        SampleCodec<S> codec = codecs.<S>getCodec(sample.getClass()).get();
+        var bytes = new ByteArrayOutputStream();
+        var output = new SampleDataOutput(bytes);
+        codec.encode(sample, output);
+        codec.encode(sample, output);
+
+        var input = new SampleDataInput(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(codec.decode(input)).isEqualTo(sample);
+        assertThat(codec.decode(input)).isEqualTo(sample);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.codec;
+
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SampleDataInputTest {
+    @Test
+    public void readWrittenData() {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new SampleDataOutput(bytes)) {
+            output.writeVarInt(0);
+            output.writeVarInt(127);
+            output.writeVarInt(128);
+            output.writeVarInt(Integer.MAX_VALUE);
+            output.writeStrings(new String[]{"", "zażółć"});
+            output.writeTags(new String[]{"NOUN", null, "VERB", "NOUN"});
+            output.writeSpans(new Span[]{new Span(0, 3), new Span(4, 300, "t")});
+        }
+
+        try (var input = new SampleDataInput(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(input.readVarInt()).isEqualTo(0);
+            assertThat(input.readVarInt()).isEqualTo(127);
+            assertThat(input.readVarInt()).isEqualTo(128);
+            assertThat(input.readVarInt()).isEqualTo(Integer.MAX_VALUE);
+            assertThat(input.readStrings()).containsExactly("", "zażółć");
+            assertThat(input.readTags()).containsExactly("NOUN", null, "VERB", "NOUN");
+            assertThat(input.readSpans()).containsExactly(new Span(0, 3), new Span(4, 300, "t"));
+        }
+    }
+
+    @Test
+    public void writeTagsOnce() {
+        var bytes = new ByteArrayOutputStream();
+        var output = new SampleDataOutput(bytes);
+
+        output.writeTags(new String[]{"NOUN", "NOUN", "NOUN"});
+
+        // length, new tag id, tag length, tag bytes, known tag id twice
+        assertThat(bytes.size()).isEqualTo(1 + 1 + 1 + 4 + 2);
+    }
+
+    @Test
+    public void readTruncatedData() {
+        var input = new SampleDataInput(new ByteArrayInputStream(new byte[]{5, 'a'}));
+
+        assertThatThrownBy(input::readString).isInstanceOf(EOFException.class);
+        assertThatThrownBy(input::readVarInt).isInstanceOf(EOFException.class);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.train;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import opennlp.tools.lemmatizer.LemmaSample;
+import opennlp.tools.util.ObjectStream;
+import opennlpmodgen.tools.model.util.SeqObjectStream;
+import opennlpmodgen.tools.util.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LemmaOutcomePrunerTest {
+    private static final Seq<LemmaSample> SAMPLES = Vector.of(
+            new LemmaSample(List.of("cats", "dogs"), List.of("N", "N"), List.of("cat", "dog")),
+            new LemmaSample(List.of("rats", "is"), List.of("N", "V"), List.of("rat", "be")),
+            new LemmaSample(List.of("bats"), List.of("N"), List.of("bat")));
+
+    @Test
+    public void pruneOutcomesDisabled() throws Exception {
+        var samples = new SeqObjectStream<>(SAMPLES);
+        var pruner = new LemmaOutcomePruner(Settings.empty());
+
+        assertThat(pruner.pruneOutcomes(samples, "lx")).isSameAs(samples);
+    }
+
+    @Test
+    public void pruneOutcomesMinFrequency() throws Exception {
+        var pruner = new LemmaOutcomePruner(new Settings(HashMap.of(
+                LemmaOutcomePruner.MIN_FREQUENCY_SETTING, "2")));
+
+        var prunedSamples = readSamples(pruner.pruneOutcomes(new SeqObjectStream<>(SAMPLES), "lx"));
+
+        // the sample with a rare outcome is dropped, remaining samples are not changed
+        assertThat(prunedSamples).containsExactly(SAMPLES.get(0), SAMPLES.get(2));
+    }
+
+    @Test
+    public void pruneOutcomesDropsOnlySamplesWithRareOutcome() throws Exception {
+        var samples = Vector.of(
+                new LemmaSample(List.of("cats"), List.of("N"), List.of("cat")),
+                new LemmaSample(List.of("dogs", "mice", "rats"), List.of("N", "N", "N"), List.of("dog", "mouse", "rat")),
+                new LemmaSample(List.of("bats"), List.of("N"), List.of("bat")));
+        var pruner = new LemmaOutcomePruner(new Settings(HashMap.of(
+                LemmaOutcomePruner.MIN_FREQUENCY_SETTING, "2")));
+
+        var prunedSamples = readSamples(pruner.pruneOutcomes(new SeqObjectStream<>(samples), "lx"));
+
+        // a single rare outcome drops the whole sample, its frequent words included, neighbours are kept
+        assertThat(prunedSamples).containsExactly(samples.get(0), samples.get(2));
+    }
+
+    @Test
+    public void pruneOutcomesMaxCountPerLanguage() throws Exception {
+        var pruner = new LemmaOutcomePruner(new Settings(HashMap.of(
+                LemmaOutcomePruner.MAX_COUNT_SETTING, "10",
+                LemmaOutcomePruner.MAX_COUNT_SETTING + ".lx", "1")));
+
+        var prunedSamples = readSamples(pruner.pruneOutcomes(new SeqObjectStream<>(SAMPLES), "lx"));
+        var otherSamples = readSamples(pruner.pruneOutcomes(new SeqObjectStream<>(SAMPLES), "ly"));
+
+        assertThat(prunedSamples).containsExactly(SAMPLES.get(0), SAMPLES.get(2));
+        assertThat(otherSamples).containsExactlyElementsOf(SAMPLES);
+    }
+
+    @Test
+    public void pruneOutcomesReset() throws Exception {
+        var pruner = new LemmaOutcomePruner(new Settings(HashMap.of(
+                LemmaOutcomePruner.MIN_FREQUENCY_SETTING, "2")));
+        var prunedStream = pruner.pruneOutcomes(new SeqObjectStream<>(SAMPLES), "lx");
+
+        var prunedSamples = readSamples(prunedStream);
+        prunedStream.reset();
+
+        assertThat(readSamples(prunedStream)).isEqualTo(prunedSamples);
+    }
+
+    private Seq<LemmaSample> readSamples(ObjectStream<LemmaSample> stream) throws Exception {
+        var samples = Vector.<LemmaSample>empty();
+        for (var sample = stream.read(); sample != null; sample = stream.read()) {
+            samples = samples.append(sample);
+        }
+        return samples;
+    }
+}
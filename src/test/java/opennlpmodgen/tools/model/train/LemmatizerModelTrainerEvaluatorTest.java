@@ -17,6 +17,7 @@ import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import opennlp.tools.lemmatizer.LemmaSample;
 import opennlpmodgen.tools.model.ModelAlgorithm;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -25,7 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class LemmatizerModelTrainerEvaluatorTest {
-    private LemmatizerModelTrainer trainer = new LemmatizerModelTrainer();
+    private LemmatizerModelTrainer trainer = new LemmatizerModelTrainer(new TrainingProfile(Settings.empty()), new LemmaOutcomePruner(Settings.empty()));
     private LemmatizerModelEvaluator evaluator = new LemmatizerModelEvaluator();
 
     @Test
@@ -17,13 +17,14 @@ import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import opennlp.tools.postag.POSSample;
 import opennlpmodgen.tools.model.ModelAlgorithm;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class POSModelTrainerEvaluatorTest {
-    private POSModelTrainer trainer = new POSModelTrainer();
+    private POSModelTrainer trainer = new POSModelTrainer(new TrainingProfile(Settings.empty()));
     private POSModelEvaluator evaluator = new POSModelEvaluator();
 
     @Test
@@ -19,11 +19,13 @@ import opennlp.tools.sentdetect.SentenceSample;
 import opennlp.tools.util.Span;
 import opennlpmodgen.tools.model.ModelAlgorithm;
 import opennlpmodgen.tools.model.util.EOSCharsSupplier;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +35,8 @@ import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 public class SentenceModelTrainerEvaluatorTest {
+    @Spy
+    private TrainingProfile trainingProfile = new TrainingProfile(Settings.empty());
     @Mock
     private EOSCharsSupplier eosCharsSupplier;
     @InjectMocks
@@ -17,13 +17,14 @@ import io.vavr.collection.Seq;
 import io.vavr.collection.Vector;
 import opennlp.tools.tokenize.TokenSample;
 import opennlpmodgen.tools.model.ModelAlgorithm;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TokenizerModelTrainerEvaluatorTest {
-    private TokenizerModelTrainer trainer = new TokenizerModelTrainer();
+    private TokenizerModelTrainer trainer = new TokenizerModelTrainer(new TrainingProfile(Settings.empty()));
     private TokenizerModelEvaluator evaluator = new TokenizerModelEvaluator();
 
     @Test
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.train;
+
+import io.vavr.collection.HashMap;
+import opennlp.tools.util.TrainingParameters;
+import opennlpmodgen.tools.MainProcessor;
+import opennlpmodgen.tools.model.ModelAlgorithm;
+import opennlpmodgen.tools.model.util.TrainingExecutor;
+import opennlpmodgen.tools.util.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrainingProfileTest {
+    @Test
+    public void getDefaultTrainingParameters() {
+        var profile = new TrainingProfile(Settings.empty());
+
+        var params = profile.getTrainingParameters("pos-tagger", ModelAlgorithm.MAXENT);
+
+        assertThat(params.algorithm()).isEqualTo(ModelAlgorithm.MAXENT);
+        assertThat(params.getIntParameter(TrainingParameters.THREADS_PARAM, 0)).isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThat(params.getIntParameter(TrainingParameters.ITERATIONS_PARAM, 0)).isEqualTo(TrainingParameters.ITERATIONS_DEFAULT_VALUE);
+        assertThat(params.getIntParameter(TrainingParameters.CUTOFF_PARAM, 0)).isEqualTo(TrainingParameters.CUTOFF_DEFAULT_VALUE);
+    }
+
+    @Test
+    public void getConfiguredTrainingParameters() {
+        var profile = new TrainingProfile(new Settings(HashMap.of(
+                "training.pos-tagger.threads", "3",
+                "training.pos-tagger.iterations", "50",
+                "training.pos-tagger.cutoff", "1",
+                "training.pos-tagger.params.PerceptronAveraging", " false ",
+                "training.lemmatizer.iterations", "10")));
+
+        var params = profile.getTrainingParameters("pos-tagger", ModelAlgorithm.PERCEPTRON);
+
+        assertThat(params.algorithm()).isEqualTo(ModelAlgorithm.PERCEPTRON);
+        assertThat(params.getIntParameter(TrainingParameters.THREADS_PARAM, 0)).isEqualTo(3);
+        assertThat(params.getIntParameter(TrainingParameters.ITERATIONS_PARAM, 0)).isEqualTo(50);
+        assertThat(params.getIntParameter(TrainingParameters.CUTOFF_PARAM, 0)).isEqualTo(1);
+        assertThat(params.getBooleanParameter("PerceptronAveraging", true)).isFalse();
+    }
+
+    @Test
+    public void getThreadsSharedByConcurrentTrainings() {
+        var parallelism = Runtime.getRuntime().availableProcessors() + 1;
+        var profile = new TrainingProfile(new Settings(HashMap.of(TrainingExecutor.PARALLELISM_SETTING, String.valueOf(parallelism))));
+
+        var params = profile.getTrainingParameters("tokenizer", ModelAlgorithm.MAXENT);
+
+        assertThat(params.getIntParameter(TrainingParameters.THREADS_PARAM, 0)).isEqualTo(1);
+    }
+
+    @Test
+    public void getThreadsSharedByConcurrentPipelines() {
+        var parallelism = Runtime.getRuntime().availableProcessors() / 2 + 1;
+        var profile = new TrainingProfile(new Settings(HashMap.of(
+                TrainingExecutor.PARALLELISM_SETTING, "2",
+                MainProcessor.PIPELINE_PARALLELISM_SETTING, String.valueOf(parallelism))));
+
+        var params = profile.getTrainingParameters("tokenizer", ModelAlgorithm.MAXENT);
+
+        assertThat(params.getIntParameter(TrainingParameters.THREADS_PARAM, 0)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.Vector;
+import opennlp.tools.postag.POSSample;
+import opennlpmodgen.tools.model.codec.POSSampleCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EncodedSampleStreamTest {
+    private static final Vector<POSSample> SAMPLES = Vector.range(0, 3000).map(i -> new POSSample(
+            new String[]{"word" + i % 50, "an", "other" + i % 13, "."},
+            new String[]{"NOUN", "DET", i % 2 == 0 ? "ADJ" : "VERB", "PUNCT"}));
+
+    @Test
+    public void writeReadSamples() {
+        Path path = Jimfs.newFileSystem().getPath("samples.bin");
+
+        var count = EncodedSampleStream.writeSamples(SAMPLES.iterator(), new POSSampleCodec(), path);
+
+        assertThat(count).isEqualTo(3000);
+        var stream = new EncodedSampleStream<>(path, new POSSampleCodec());
+        assertThat(readAll(stream)).isEqualTo(SAMPLES);
+        stream.reset();
+        assertThat(readAll(stream)).isEqualTo(SAMPLES);
+        stream.close();
+        assertThat(stream.read()).isNull();
+    }
+
+    @Test
+    public void smallerThanSerialization() throws Exception {
+        // replacement of a throughput benchmark: encoded samples must take less space than serialized ones
+        var fileSystem = Jimfs.newFileSystem();
+        Path encodedPath = fileSystem.getPath("encoded.bin");
+        Path serializedPath = fileSystem.getPath("serialized.bin");
+
+        EncodedSampleStream.writeSamples(SAMPLES.iterator(), new POSSampleCodec(), encodedPath);
+        SerializedObjectStream.writeObjects(SAMPLES.iterator(), serializedPath);
+
+        assertThat(Files.size(encodedPath)).isLessThan(Files.size(serializedPath) / 2);
+    }
+
+    private Vector<POSSample> readAll(EncodedSampleStream<POSSample> stream) {
+        var samples = new ArrayList<POSSample>();
+        for (var sample = stream.read(); sample != null; sample = stream.read()) {
+            samples.add(sample);
+        }
+        return Vector.ofAll(samples);
+    }
+}
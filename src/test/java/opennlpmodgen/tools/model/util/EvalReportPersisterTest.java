@@ -20,6 +20,8 @@ import opennlp.tools.tokenize.TokenSample;
 import opennlp.tools.tokenize.TokenizerModel;
 import opennlpmodgen.tools.model.ModelAlgorithm;
 import opennlpmodgen.tools.model.train.TokenizerModelTrainer;
+import opennlpmodgen.tools.model.train.TrainingProfile;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
@@ -35,11 +37,11 @@ public class EvalReportPersisterTest {
                 TokenSample.parse("a1 a2|.", "|"),
                 TokenSample.parse("b1 b2|.", "|"),
                 TokenSample.parse("c1 c2|.", "|"));
-        TokenizerModelTrainer trainer = new TokenizerModelTrainer();
+        TokenizerModelTrainer trainer = new TokenizerModelTrainer(new TrainingProfile(Settings.empty()));
         TokenizerModel trainedModel = trainer.trainModel(ModelAlgorithm.MAXENT, "lx", samples).get();
         Path evalReportPath = Jimfs.newFileSystem().getPath("report.txt");
 
-        persister.writeEvaluationReport(10.5, 500, 33, "A", trainedModel, "abc\nxyz", evalReportPath);
+        persister.writeEvaluationReport(10.5, 500, 33, "A", Vector.empty(), trainedModel, "abc\nxyz", evalReportPath);
 
         assertThat(evalReportPath).exists();
         assertThat(evalReportPath).content()
@@ -48,6 +50,23 @@ public class EvalReportPersisterTest {
                 .contains("Evaluation-Sample-Size=33")
                 .contains("Training-Algorithm=A")
                 .contains("Language=lx")
-                .contains("abc\nxyz");
+                .contains("abc\nxyz")
+                .doesNotContain("Skipped-Algorithms");
+    }
+
+    @Test
+    public void writeEvaluationReportSkippedAlgorithms() {
+        Seq<TokenSample> samples = Vector.of(
+                TokenSample.parse("a1 a2|.", "|"),
+                TokenSample.parse("b1 b2|.", "|"),
+                TokenSample.parse("c1 c2|.", "|"));
+        TokenizerModelTrainer trainer = new TokenizerModelTrainer(new TrainingProfile(Settings.empty()));
+        TokenizerModel trainedModel = trainer.trainModel(ModelAlgorithm.MAXENT, "lx", samples).get();
+        Path evalReportPath = Jimfs.newFileSystem().getPath("report.txt");
+
+        persister.writeEvaluationReport(10.5, 500, 33, "A", Vector.of("B (out of memory)", "C (time budget of 1.0 minutes exceeded)"), trainedModel, "abc", evalReportPath);
+
+        assertThat(evalReportPath).content()
+                .contains("Training-Algorithm=A\nSkipped-Algorithms=B (out of memory), C (time budget of 1.0 minutes exceeded)\n");
     }
 }
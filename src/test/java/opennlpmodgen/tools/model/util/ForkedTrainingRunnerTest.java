@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import opennlp.tools.tokenize.TokenSample;
+import opennlpmodgen.tools.TrainingWorkerCmd;
+import opennlpmodgen.tools.model.ModelAlgorithm;
+import opennlpmodgen.tools.model.codec.SampleCodecs;
+import opennlpmodgen.tools.model.codec.TokenSampleCodec;
+import opennlpmodgen.tools.model.train.TokenizerModelTrainer;
+import opennlpmodgen.tools.model.train.TrainingProfile;
+import opennlpmodgen.tools.util.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.spy;
+
+public class ForkedTrainingRunnerTest {
+    private Settings settings = new Settings(HashMap.of(
+            ForkedTrainingRunner.WORKER_HEAP_SETTING, "512",
+            "training.tokenizer.iterations", "10"));
+    private TokenizerModelTrainer trainer = new TokenizerModelTrainer(new TrainingProfile(settings));
+    private SampleCodecs codecs = new SampleCodecs(new TokenSampleCodec());
+    private ModelPersister modelPersister = new ModelPersister();
+    private TrainingWorker worker = new TrainingWorker(List.of(trainer), codecs, new SampleSubsampler(settings), modelPersister);
+    private ForkedTrainingRunner runner = spy(new ForkedTrainingRunner(settings, codecs, modelPersister));
+
+    @Test
+    public void isEnabled() {
+        assertThat(runner.isEnabled()).isTrue();
+        assertThat(new ForkedTrainingRunner(Settings.empty(), codecs, modelPersister).isEnabled()).isFalse();
+    }
+
+    @Test
+    public void createCommand() {
+        var command = runner.createCommand("a.Trainer", "MAXENT", "lx", "a.Sample", Path.of("samples.bin"), 0.5, Path.of("model.bin"));
+
+        assertThat(command.head()).endsWith("java");
+        assertThat(command.tail()).containsExactly(
+                "-Xmx512m",
+                "-XX:+ExitOnOutOfMemoryError",
+                "-Dopennlpmodgen.training.tokenizer.iterations=10",
+                "-Dopennlpmodgen.training.worker.heap.mb=512",
+                "-cp",
+                System.getProperty("java.class.path"),
+                TrainingWorkerCmd.class.getName(),
+                "a.Trainer",
+                "MAXENT",
+                "lx",
+                "a.Sample",
+                "samples.bin",
+                "0.5",
+                "model.bin");
+    }
+
+    @Test
+    public void createCommandHeapLimit() {
+        var limitedRunner = new ForkedTrainingRunner(new Settings(HashMap.of(TrainingExecutor.HEAP_LIMIT_SETTING, "256")).withDefaults(settings), codecs, modelPersister);
+
+        var command = limitedRunner.createCommand("a.Trainer", "MAXENT", "lx", "a.Sample", Path.of("samples.bin"), 0.5, Path.of("model.bin"));
+
+        assertThat(command).contains("-Xmx256m");
+    }
+
+    @Test
+    public void runWorkerTimeBudgetExceeded() {
+        var budgetRunner = new ForkedTrainingRunner(new Settings(HashMap.of(TrainingExecutor.TIME_BUDGET_SETTING, "0.05")).withDefaults(settings), codecs, modelPersister);
+        // the real worker command with a main class which never finishes, a failing start would end with another exit code
+        var command = budgetRunner.createCommand("a.Trainer", "MAXENT", "lx", "a.Sample", Path.of("samples.bin"), 0.5, Path.of("model.bin"))
+                .map(arg -> arg.equals(TrainingWorkerCmd.class.getName()) ? SleepingWorkerCmd.class.getName() : arg);
+
+        assertThat(budgetRunner.runWorker(command)).isEqualTo(ForkedTrainingRunner.TIME_BUDGET_EXCEEDED);
+    }
+
+    @Test
+    public void trainModel() {
+        // the worker runs in the test process instead of a separate java process
+        willAnswer(invocation -> runWorkerInProcess(invocation.getArgument(0))).given(runner).runWorker(any());
+        var samples = new SpilledSamples<TokenSample>(() -> Iterator.of(
+                TokenSample.parse("a1 a2|.", "|"),
+                TokenSample.parse("b1 b2|.", "|"),
+                TokenSample.parse("c1 c2|.", "|")), 3, Option.none(), Option.none());
+
+        var modelOpt = runner.trainModel(trainer, ModelAlgorithm.MAXENT, "lx", samples, 1.0);
+
+        assertThat(modelOpt.isRight()).isTrue();
+        assertThat(modelOpt.get()).isNotEmpty();
+        assertThat(modelOpt.get().get().getLanguage()).isEqualTo("lx");
+    }
+
+    @Test
+    public void trainModelSpilledSamples() throws Exception {
+        // spilled samples are not written again, the worker reads the spill file
+        Path spillPath = Files.createTempFile("opennlpmodgen-test-", ".bin");
+        EncodedSampleStream.writeSamples(Iterator.of(
+                TokenSample.parse("a1 a2|.", "|"),
+                TokenSample.parse("b1 b2|.", "|"),
+                TokenSample.parse("c1 c2|.", "|")), new TokenSampleCodec(), spillPath);
+        willAnswer(invocation -> {
+            Seq<String> arguments = invocation.<Seq<String>>getArgument(0).takeRight(7);
+            assertThat(arguments.subSequence(3, 6)).containsExactly(TokenSample.class.getName(), spillPath.toString(), "1.0");
+            return runWorkerInProcess(invocation.getArgument(0));
+        }).given(runner).runWorker(any());
+
+        try (var samples = new SpilledSamples<TokenSample>(Iterator::empty, 3, Option.some(spillPath), Option.some(new TokenSampleCodec()))) {
+            var modelOpt = runner.trainModel(trainer, ModelAlgorithm.MAXENT, "lx", samples, 1.0);
+
+            assertThat(modelOpt.isRight()).isTrue();
+            assertThat(modelOpt.get()).isNotEmpty();
+            assertThat(spillPath).exists();
+        }
+    }
+
+    @Test
+    public void trainModelNoSamples() {
+        willAnswer(invocation -> {
+            Seq<String> arguments = invocation.<Seq<String>>getArgument(0).takeRight(7);
+            assertThat(arguments.get(3)).isEqualTo(TrainingWorker.SERIALIZED_SAMPLES);
+            return runWorkerInProcess(invocation.getArgument(0));
+        }).given(runner).runWorker(any());
+        var samples = new SpilledSamples<TokenSample>(Iterator::empty, 0, Option.none(), Option.none());
+
+        var modelOpt = runner.trainModel(trainer, ModelAlgorithm.MAXENT, "lx", samples, 1.0);
+
+        assertThat(modelOpt).isEqualTo(Either.right(Option.none()));
+    }
+
+    @Test
+    public void trainModelWorkerFailed() {
+        var samples = new SpilledSamples<TokenSample>(() -> Iterator.of(TokenSample.parse("a1 a2|.", "|")), 1, Option.none(), Option.none());
+
+        willReturn(TrainingWorker.OUT_OF_MEMORY).given(runner).runWorker(any());
+        assertThat(runner.trainModel(trainer, ModelAlgorithm.MAXENT, "lx", samples, 1.0))
+                .isEqualTo(Either.left("out of memory in worker process with 512 MB heap"));
+
+        willReturn(ForkedTrainingRunner.TIME_BUDGET_EXCEEDED).given(runner).runWorker(any());
+        assertThat(runner.trainModel(trainer, ModelAlgorithm.MAXENT, "lx", samples, 1.0))
+                .isEqualTo(Either.left("time budget of 0.0 minutes exceeded"));
+
+        willReturn(1).given(runner).runWorker(any());
+        assertThat(runner.trainModel(trainer, ModelAlgorithm.MAXENT, "lx", samples, 1.0))
+                .isEqualTo(Either.left("worker process failed with exit code 1"));
+    }
+
+    private int runWorkerInProcess(Seq<String> command) {
+        var arguments = command.takeRight(7);
+        assertThat(Files.exists(Path.of(arguments.get(4)))).isTrue();
+        return worker.trainModel(arguments.get(0), arguments.get(1), arguments.get(2), arguments.get(3), Path.of(arguments.get(4)), Double.parseDouble(arguments.get(5)), Path.of(arguments.get(6)));
+    }
+
+    public static class SleepingWorkerCmd {
+        public static void main(String[] args) throws InterruptedException {
+            Thread.sleep(60_000);
+        }
+    }
+}
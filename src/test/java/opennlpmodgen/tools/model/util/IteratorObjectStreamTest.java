@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.Iterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IteratorObjectStreamTest {
+    @Test
+    public void readReset() {
+        var sourceReads = new AtomicInteger();
+        var stream = new IteratorObjectStream<>(() -> {
+            sourceReads.incrementAndGet();
+            return Iterator.of("a", "b");
+        });
+
+        assertThat(stream.read()).isEqualTo("a");
+        assertThat(stream.read()).isEqualTo("b");
+        assertThat(stream.read()).isNull();
+        stream.reset();
+        assertThat(stream.read()).isEqualTo("a");
+        assertThat(sourceReads.get()).isEqualTo(2);
+    }
+}
@@ -20,6 +20,8 @@ import opennlp.tools.tokenize.TokenSample;
 import opennlp.tools.tokenize.TokenizerModel;
 import opennlpmodgen.tools.model.ModelAlgorithm;
 import opennlpmodgen.tools.model.train.TokenizerModelTrainer;
+import opennlpmodgen.tools.model.train.TrainingProfile;
+import opennlpmodgen.tools.util.Settings;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
@@ -35,7 +37,7 @@ public class ModelPersisterTest {
                 TokenSample.parse("a1 a2|.", "|"),
                 TokenSample.parse("b1 b2|.", "|"),
                 TokenSample.parse("c1 c2|.", "|"));
-        TokenizerModelTrainer trainer = new TokenizerModelTrainer();
+        TokenizerModelTrainer trainer = new TokenizerModelTrainer(new TrainingProfile(Settings.empty()));
         TokenizerModel trainedModel = trainer.trainModel(ModelAlgorithm.MAXENT, "lx", samples).get();
         Path modelPath = Jimfs.newFileSystem().getPath("model.bin");
 
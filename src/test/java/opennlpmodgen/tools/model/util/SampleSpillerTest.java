@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Option;
+import opennlp.tools.tokenize.TokenSample;
+import opennlpmodgen.tools.model.codec.SampleCodecs;
+import opennlpmodgen.tools.model.codec.TokenSampleCodec;
+import opennlpmodgen.tools.util.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SampleSpillerTest {
+    private SampleSpiller spiller = new SampleSpiller(new Settings(HashMap.of(SampleSpiller.SPILL_THRESHOLD_SETTING, "2")), new SampleCodecs(new TokenSampleCodec()));
+
+    @Test
+    public void spillSamples() throws Exception {
+        try (var samples = spiller.spillSamples(() -> Iterator.of("a", "b", "c"))) {
+            assertThat(samples.getSize()).isEqualTo(3);
+            assertThat(samples.getSpillPathOpt().isDefined()).isTrue();
+            assertThat(samples.getCodecOpt().isEmpty()).isTrue();
+            try (var stream = samples.openStream()) {
+                assertThat(stream.read()).isEqualTo("a");
+                assertThat(stream.read()).isEqualTo("b");
+                assertThat(stream.read()).isEqualTo("c");
+                assertThat(stream.read()).isNull();
+            }
+        }
+    }
+
+    @Test
+    public void spillSamplesReadOnce() throws Exception {
+        var readCount = new AtomicInteger();
+
+        try (var samples = spiller.spillSamples(() -> {
+            readCount.incrementAndGet();
+            return Iterator.of("a", "b", "c");
+        })) {
+            assertThat(samples.getSize()).isEqualTo(3);
+            assertThat(readCount).hasValue(1);
+        }
+    }
+
+    @Test
+    public void spillSamplesWithCodec() throws Exception {
+        var sample = TokenSample.parse("a b|c", "|");
+
+        try (var samples = spiller.spillSamples(() -> Iterator.of(sample, sample, sample))) {
+            assertThat(samples.getSpillPathOpt().isDefined()).isTrue();
+            assertThat(samples.getCodecOpt().map(Object::getClass)).containsExactly(TokenSampleCodec.class);
+            try (var stream = samples.openStream()) {
+                assertThat(stream.read()).isEqualTo(sample);
+            }
+        }
+    }
+
+    @Test
+    public void closeDeletesSpillFile() throws Exception {
+        Path spillPath = Jimfs.newFileSystem().getPath("samples.bin");
+        SerializedObjectStream.writeObjects(Iterator.of("a"), spillPath);
+        var samples = new SpilledSamples<String>(() -> Iterator.of("a"), 1, Option.some(spillPath), Option.none());
+
+        samples.close();
+
+        assertThat(spillPath).doesNotExist();
+    }
+
+    @Test
+    public void closeKeepsSpillFileReadByStream() throws Exception {
+        Path spillPath = Jimfs.newFileSystem().getPath("samples.bin");
+        SerializedObjectStream.writeObjects(Iterator.of("a", "b"), spillPath);
+        var samples = new SpilledSamples<String>(() -> Iterator.of("a", "b"), 2, Option.some(spillPath), Option.none());
+        var stream = samples.openStream();
+
+        samples.close();
+        stream.reset();
+
+        assertThat(stream.read()).isEqualTo("a");
+        assertThat(spillPath).exists();
+        stream.close();
+        assertThat(spillPath).doesNotExist();
+    }
+
+    @Test
+    public void keepSamplesBelowThreshold() throws Exception {
+        try (var samples = spiller.spillSamples(() -> Iterator.of("a", "b"))) {
+            assertThat(samples.getSize()).isEqualTo(2);
+            try (var stream = samples.openStream()) {
+                assertThat(stream).isInstanceOf(IteratorObjectStream.class);
+                assertThat(stream.read()).isEqualTo("a");
+            }
+        }
+    }
+
+    @Test
+    public void keepNoSamples() throws Exception {
+        try (var samples = spiller.spillSamples(Iterator::<String>empty)) {
+            assertThat(samples.getSize()).isEqualTo(0);
+            try (var stream = samples.openStream()) {
+                assertThat(stream).isInstanceOf(IteratorObjectStream.class);
+            }
+        }
+    }
+
+    @Test
+    public void spillingDisabled() throws Exception {
+        var disabledSpiller = new SampleSpiller(Settings.empty(), new SampleCodecs());
+
+        try (var samples = disabledSpiller.spillSamples(() -> Iterator.of("a", "b", "c"))) {
+            try (var stream = samples.openStream()) {
+                assertThat(stream).isInstanceOf(IteratorObjectStream.class);
+            }
+        }
+    }
+}
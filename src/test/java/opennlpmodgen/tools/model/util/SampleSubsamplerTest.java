@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Vector;
+import opennlp.tools.util.ObjectStream;
+import opennlpmodgen.tools.util.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SampleSubsamplerTest {
+    @Test
+    public void getSelectionFractions() {
+        assertThat(new SampleSubsampler(Settings.empty()).getSelectionFractions()).isEmpty();
+        assertThat(subsampler("0.2").getSelectionFractions()).containsExactly(0.2, 0.4, 0.8);
+        assertThat(subsampler("0.5").getSelectionFractions()).containsExactly(0.5);
+        assertThatThrownBy(() -> subsampler("0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> subsampler("1.5")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void subsampleSamples() throws Exception {
+        var samples = new IteratorObjectStream<>(() -> Iterator.range(0, 10));
+        var subsampler = subsampler("0.3");
+
+        var subsampledStream = subsampler.subsampleSamples(samples, 0.3);
+        var subsampledSamples = readSamples(subsampledStream);
+        subsampledStream.reset();
+
+        assertThat(subsampledSamples).containsExactly(3, 6, 9);
+        assertThat(readSamples(subsampledStream)).isEqualTo(subsampledSamples);
+        assertThat(subsampler.subsampleSamples(samples, 1.0)).isSameAs(samples);
+    }
+
+    private SampleSubsampler subsampler(String fraction) {
+        return new SampleSubsampler(new Settings(HashMap.of(SampleSubsampler.SUBSAMPLE_FRACTION_SETTING, fraction)));
+    }
+
+    private Vector<Integer> readSamples(ObjectStream<Integer> stream) throws Exception {
+        var samples = new ArrayList<Integer>();
+        for (var sample = stream.read(); sample != null; sample = stream.read()) {
+            samples.add(sample);
+        }
+        return Vector.ofAll(samples);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SerializedObjectStreamTest {
+    @Test
+    public void writeReadObjects() {
+        Path path = Jimfs.newFileSystem().getPath("samples.bin");
+        var objects = Vector.range(0, 2500).map(i -> "s" + i % 7);
+
+        var count = SerializedObjectStream.writeObjects(objects.iterator(), path);
+
+        assertThat(count).isEqualTo(2500);
+        try (var stream = new SerializedObjectStream<String>(path)) {
+            assertThat(readAll(stream)).isEqualTo(objects);
+            stream.reset();
+            assertThat(readAll(stream)).isEqualTo(objects);
+        }
+    }
+
+    @Test
+    public void readClosed() {
+        Path path = Jimfs.newFileSystem().getPath("samples.bin");
+        SerializedObjectStream.writeObjects(Iterator.of("a"), path);
+        var stream = new SerializedObjectStream<String>(path);
+
+        stream.close();
+
+        assertThat(stream.read()).isNull();
+    }
+
+    private Vector<String> readAll(SerializedObjectStream<String> stream) {
+        var objects = new ArrayList<String>();
+        for (var object = stream.read(); object != null; object = stream.read()) {
+            objects.add(object);
+        }
+        return Vector.ofAll(objects);
+    }
+}
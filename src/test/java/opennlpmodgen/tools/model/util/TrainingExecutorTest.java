@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import opennlpmodgen.tools.MainProcessor;
+import opennlpmodgen.tools.util.ParallelTaskRunner;
+import opennlpmodgen.tools.util.Settings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainingExecutorTest {
+    @Mock
+    private ParallelTaskRunner taskRunner;
+
+    @Test
+    public void executeTrainings() throws Exception {
+        var settings = new Settings(HashMap.of(
+                TrainingExecutor.PARALLELISM_SETTING, "3",
+                TrainingExecutor.HEAP_BUDGET_SETTING, "100",
+                TrainingExecutor.HEAP_PER_RUN_SETTING, "50"));
+        var executor = new TrainingExecutor(settings, taskRunner);
+        given(taskRunner.runTasks(any(), anyInt())).willAnswer(invocation -> {
+            Seq<Callable<String>> tasks = invocation.getArgument(0);
+            return tasks.map(task -> {
+                try {
+                    return task.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        });
+        Seq<Callable<String>> trainings = Vector.of(() -> "a", () -> "b");
+
+        var results = executor.executeTrainings(trainings);
+
+        assertThat(results).containsExactly("a", "b");
+        verify(taskRunner).runTasks(any(), eq(3));
+    }
+
+    @Test
+    public void executeTrainingsDefaultSettings() {
+        var executor = new TrainingExecutor(Settings.empty(), new ParallelTaskRunner());
+        Seq<Callable<String>> trainings = Vector.of(() -> "a", () -> "b");
+
+        var results = executor.executeTrainings(trainings);
+
+        assertThat(results).containsExactly("a", "b");
+    }
+
+    @Test
+    public void executeWithinBudget() {
+        var executor = new TrainingExecutor(Settings.empty(), taskRunner);
+
+        assertThat(executor.executeWithinBudget(() -> "a")).isEqualTo(Either.right("a"));
+        assertThat(executor.<String>executeWithinBudget(() -> {
+            throw new OutOfMemoryError();
+        })).isEqualTo(Either.left("out of memory"));
+    }
+
+    @Test
+    public void executeWithinBudgetTimeExceeded() {
+        var settings = new Settings(HashMap.of(TrainingExecutor.TIME_BUDGET_SETTING, "0.005"));
+        var executor = new TrainingExecutor(settings, taskRunner);
+
+        assertThat(executor.executeWithinBudget(() -> "a")).isEqualTo(Either.right("a"));
+        assertThat(executor.executeWithinBudget(() -> {
+            Thread.sleep(10_000);
+            return "b";
+        })).isEqualTo(Either.left("time budget of 0.005 minutes exceeded"));
+        assertThatThrownBy(() -> executor.executeWithinBudget(() -> {
+            throw new IllegalStateException("c");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void heapLimitIgnoredForConcurrentRuns() {
+        var settings = new Settings(HashMap.of(TrainingExecutor.HEAP_LIMIT_SETTING, "100"));
+
+        assertThat(new TrainingExecutor(settings, taskRunner).getHeapLimitMegabytes()).isEqualTo(100);
+        assertThat(new TrainingExecutor(new Settings(HashMap.of(TrainingExecutor.PARALLELISM_SETTING, "2")).withDefaults(settings), taskRunner)
+                .getHeapLimitMegabytes()).isZero();
+        assertThat(new TrainingExecutor(new Settings(HashMap.of(MainProcessor.PIPELINE_PARALLELISM_SETTING, "2")).withDefaults(settings), taskRunner)
+                .getHeapLimitMegabytes()).isZero();
+        // worker processes get the limit as their maximal heap, it is kept
+        assertThat(new TrainingExecutor(new Settings(HashMap.of(
+                TrainingExecutor.PARALLELISM_SETTING, "2",
+                ForkedTrainingRunner.WORKER_HEAP_SETTING, "200")).withDefaults(settings), taskRunner)
+                .getHeapLimitMegabytes()).isEqualTo(100);
+    }
+
+    @Test
+    public void executeWithinBudgetKeepsHeapOfAbandonedRun() {
+        var settings = new Settings(HashMap.of(
+                TrainingExecutor.HEAP_BUDGET_SETTING, "100",
+                TrainingExecutor.HEAP_PER_RUN_SETTING, "100",
+                TrainingExecutor.TIME_BUDGET_SETTING, "0.002"));
+        var executor = new TrainingExecutor(settings, taskRunner);
+        var abandonedRunFinished = new AtomicBoolean();
+
+        assertThat(executor.executeWithinBudget(() -> {
+            // like trainers, the run does not react to interruption
+            var endNanos = System.nanoTime() + 500_000_000L;
+            while (System.nanoTime() < endNanos) {
+                Thread.onSpinWait();
+            }
+            abandonedRunFinished.set(true);
+            return "a";
+        })).isEqualTo(Either.left("time budget of 0.002 minutes exceeded"));
+        // the next run waits until the abandoned run releases its heap
+        assertThat(executor.executeWithinBudget(abandonedRunFinished::get)).isEqualTo(Either.right(true));
+    }
+}
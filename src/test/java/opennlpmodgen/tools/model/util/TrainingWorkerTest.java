@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.model.util;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.Iterator;
+import opennlp.tools.tokenize.TokenSample;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlpmodgen.tools.model.ModelAlgorithm;
+import opennlpmodgen.tools.model.codec.SampleCodecs;
+import opennlpmodgen.tools.model.codec.TokenSampleCodec;
+import opennlpmodgen.tools.model.train.TokenizerModelTrainer;
+import opennlpmodgen.tools.model.train.TrainingProfile;
+import opennlpmodgen.tools.util.PathUtils;
+import opennlpmodgen.tools.util.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TrainingWorkerTest {
+    private ModelPersister modelPersister = new ModelPersister();
+    private TrainingWorker worker = new TrainingWorker(
+            List.of(new TokenizerModelTrainer(new TrainingProfile(Settings.empty()))),
+            new SampleCodecs(new TokenSampleCodec()),
+            new SampleSubsampler(Settings.empty()),
+            modelPersister);
+
+    @Test
+    public void trainModel() {
+        Path rootPath = Jimfs.newFileSystem().getPath("root");
+        Path samplesPath = rootPath.resolve("samples.bin");
+        Path modelPath = rootPath.resolve("model.bin");
+        EncodedSampleStream.writeSamples(Iterator.of(
+                TokenSample.parse("a1 a2|.", "|"),
+                TokenSample.parse("b1 b2|.", "|"),
+                TokenSample.parse("c1 c2|.", "|")), new TokenSampleCodec(), createParent(samplesPath));
+
+        var exitCode = worker.trainModel(TokenizerModelTrainer.class.getName(), ModelAlgorithm.MAXENT, "lx", TokenSample.class.getName(), samplesPath, 1.0, modelPath);
+
+        assertThat(exitCode).isEqualTo(TrainingWorker.MODEL_TRAINED);
+        assertThat(modelPersister.readModel(modelPath, TokenizerModel.class).getLanguage()).isEqualTo("lx");
+    }
+
+    @Test
+    public void trainModelSubsampled() {
+        Path rootPath = Jimfs.newFileSystem().getPath("root");
+        Path samplesPath = rootPath.resolve("samples.bin");
+        Path modelPath = rootPath.resolve("model.bin");
+        EncodedSampleStream.writeSamples(Iterator.of(TokenSample.parse("a1 a2|.", "|"), TokenSample.parse("b1 b2|.", "|")), new TokenSampleCodec(), createParent(samplesPath));
+
+        // a single sample is not enough to train a model
+        var exitCode = worker.trainModel(TokenizerModelTrainer.class.getName(), ModelAlgorithm.MAXENT, "lx", TokenSample.class.getName(), samplesPath, 0.5, modelPath);
+
+        assertThat(exitCode).isEqualTo(TrainingWorker.NO_MODEL);
+    }
+
+    @Test
+    public void trainModelNoSamples() {
+        Path rootPath = Jimfs.newFileSystem().getPath("root");
+        Path samplesPath = rootPath.resolve("samples.bin");
+        Path modelPath = rootPath.resolve("model.bin");
+        SerializedObjectStream.writeObjects(Iterator.empty(), createParent(samplesPath));
+
+        var exitCode = worker.trainModel(TokenizerModelTrainer.class.getName(), ModelAlgorithm.MAXENT, "lx", TrainingWorker.SERIALIZED_SAMPLES, samplesPath, 1.0, modelPath);
+
+        assertThat(exitCode).isEqualTo(TrainingWorker.NO_MODEL);
+        assertThat(modelPath).doesNotExist();
+    }
+
+    @Test
+    public void trainModelUnknownTrainer() {
+        Path rootPath = Jimfs.newFileSystem().getPath("root");
+
+        assertThatThrownBy(() -> worker.trainModel("x.UnknownTrainer", ModelAlgorithm.MAXENT, "lx", TrainingWorker.SERIALIZED_SAMPLES, rootPath.resolve("samples.bin"), 1.0, rootPath.resolve("model.bin")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path createParent(Path path) {
+        PathUtils.createParentDirectories(path);
+        return path;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingTextNormalizerTest {
+    @Mock
+    private TextNormalizer textNormalizer;
+
+    @Test
+    public void normalizeTextCached() {
+        var normalizer = new CachingTextNormalizer(textNormalizer, 10);
+        given(textNormalizer.normalizeText(any(), any())).willAnswer(invocation -> invocation.<String>getArgument(0).toLowerCase());
+
+        assertThat(normalizer.normalizeText("Ab", "lx")).isEqualTo("ab");
+        assertThat(normalizer.normalizeText("Ab", "lx")).isEqualTo("ab");
+        assertThat(normalizer.normalizeText("Ab", "ly")).isEqualTo("ab");
+
+        verify(textNormalizer, times(2)).isNormalized("Ab", "lx");
+        verify(textNormalizer).isNormalized("Ab", "ly");
+        verify(textNormalizer).normalizeText("Ab", "lx");
+        verify(textNormalizer).normalizeText("Ab", "ly");
+        verifyNoMoreInteractions(textNormalizer);
+        assertThat(normalizer.getHitCount()).isEqualTo(1);
+        assertThat(normalizer.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void normalizeTextEvicted() {
+        var normalizer = new CachingTextNormalizer(textNormalizer, 2);
+        given(textNormalizer.normalizeText(any(), any())).willAnswer(invocation -> invocation.<String>getArgument(0).toLowerCase());
+
+        normalizer.normalizeText("A", "lx");
+        normalizer.normalizeText("B", "lx");
+        normalizer.normalizeText("A", "lx");
+        normalizer.normalizeText("C", "lx");
+        normalizer.normalizeText("A", "lx");
+        normalizer.normalizeText("B", "lx");
+
+        verify(textNormalizer).normalizeText("A", "lx");
+        verify(textNormalizer, times(2)).normalizeText("B", "lx");
+        verify(textNormalizer).normalizeText("C", "lx");
+        assertThat(normalizer.getHitCount()).isEqualTo(2);
+        assertThat(normalizer.getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void normalizeTextAlreadyNormalized() {
+        var normalizer = new CachingTextNormalizer(textNormalizer, 10);
+        given(textNormalizer.isNormalized("ab", "lx")).willReturn(true);
+        given(textNormalizer.normalizeText("ab", "lx")).willReturn("ab");
+
+        assertThat(normalizer.normalizeText("ab", "lx")).isEqualTo("ab");
+        assertThat(normalizer.isNormalized("ab", "lx")).isTrue();
+
+        assertThat(normalizer.getHitCount()).isEqualTo(0);
+        assertThat(normalizer.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void normalizeTextCacheDisabled() {
+        var normalizer = new CachingTextNormalizer(textNormalizer, 0);
+        given(textNormalizer.normalizeText("Ab", "lx")).willReturn("ab");
+
+        assertThat(normalizer.normalizeText("Ab", "lx")).isEqualTo("ab");
+        assertThat(normalizer.normalizeText("Ab", "lx")).isEqualTo("ab");
+
+        verify(textNormalizer, times(2)).normalizeText("Ab", "lx");
+        verifyNoMoreInteractions(textNormalizer);
+    }
+
+    @Test
+    public void normalizeUniqueTextNotCached() {
+        var normalizer = new CachingTextNormalizer(textNormalizer, 10);
+        given(textNormalizer.normalizeText("A b", "lx")).willReturn("a b");
+
+        assertThat(normalizer.normalizeUniqueText("A b", "lx")).isEqualTo("a b");
+        assertThat(normalizer.normalizeUniqueText("A b", "lx")).isEqualTo("a b");
+
+        verify(textNormalizer, times(2)).normalizeText("A b", "lx");
+        verifyNoMoreInteractions(textNormalizer);
+        assertThat(normalizer.getHitCount()).isEqualTo(0);
+        assertThat(normalizer.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void clearCache() {
+        var normalizer = new CachingTextNormalizer(textNormalizer, 10);
+        given(textNormalizer.normalizeText(any(), any())).willAnswer(invocation -> invocation.<String>getArgument(0).toLowerCase());
+
+        normalizer.normalizeText("Ab", "lx");
+        normalizer.normalizeText("Ab", "ly");
+        normalizer.clearCache("lx");
+        normalizer.normalizeText("Ab", "lx");
+        normalizer.normalizeText("Ab", "ly");
+
+        verify(textNormalizer, times(2)).normalizeText("Ab", "lx");
+        verify(textNormalizer).normalizeText("Ab", "ly");
+        verify(textNormalizer).clearCache("lx");
+        assertThat(normalizer.getHitCount()).isEqualTo(1);
+        assertThat(normalizer.getMissCount()).isEqualTo(3);
+    }
+}
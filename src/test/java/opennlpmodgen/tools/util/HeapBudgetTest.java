@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HeapBudgetTest {
+    private ParallelTaskRunner runner = new ParallelTaskRunner();
+
+    @Test
+    public void reserveWithinBudget() {
+        var budget = new HeapBudget(100);
+
+        var result = budget.reserve(40, () -> "a");
+
+        assertThat(result).isEqualTo("a");
+        assertThat(budget.getBudgetMegabytes()).isEqualTo(100);
+    }
+
+    @Test
+    public void reserveNothing() {
+        var budget = new HeapBudget(0);
+
+        var result = budget.reserve(40, () -> "a");
+
+        assertThat(result).isEqualTo("a");
+    }
+
+    @Test
+    public void reserveLimitsConcurrentTasks() {
+        // budget allows only two tasks at the same time
+        var budget = new HeapBudget(100);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        Seq<Callable<Integer>> tasks = Vector.range(0, 6).map(i -> () -> budget.reserve(50, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return i;
+        }));
+
+        var results = runner.runTasks(tasks, 6);
+
+        assertThat(results).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void reserveMoreThanBudget() {
+        var budget = new HeapBudget(100);
+
+        var result = budget.reserve(500, () -> "a");
+
+        assertThat(result).isEqualTo("a");
+    }
+
+    @Test
+    public void acquireReleasedByOtherThread() throws Exception {
+        var budget = new HeapBudget(100);
+        var permits = budget.acquire(100);
+        var releasingThread = new Thread(() -> budget.release(permits));
+
+        releasingThread.start();
+        releasingThread.join();
+
+        assertThat(permits).isEqualTo(100);
+        assertThat(budget.reserve(100, () -> "a")).isEqualTo("a");
+    }
+
+    @Test
+    public void maxHeapMegabytes() {
+        assertThat(HeapBudget.getMaxHeapMegabytes()).isPositive();
+    }
+}
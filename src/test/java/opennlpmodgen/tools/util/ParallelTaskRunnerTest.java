@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelTaskRunnerTest {
+    private ParallelTaskRunner runner = new ParallelTaskRunner();
+
+    @Test
+    public void runTasksSequentially() {
+        var callerThread = Thread.currentThread();
+        Seq<Callable<Boolean>> tasks = Vector.of(
+                () -> Thread.currentThread() == callerThread,
+                () -> Thread.currentThread() == callerThread);
+
+        var results = runner.runTasks(tasks, 1);
+
+        assertThat(results).containsExactly(true, true);
+    }
+
+    @Test
+    public void runTasksConcurrently() {
+        // every task waits for the others, it succeeds only if all tasks run at the same time
+        var latch = new CountDownLatch(3);
+        Seq<Callable<String>> tasks = Vector.of("a", "b", "c").map(value -> () -> {
+            latch.countDown();
+            return latch.await(10, TimeUnit.SECONDS) ? value : "timeout";
+        });
+
+        var results = runner.runTasks(tasks, 3);
+
+        assertThat(results).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void runTasksFailure() {
+        Seq<Callable<String>> tasks = Vector.of(
+                () -> "a",
+                () -> {
+                    throw new IOException("failure");
+                });
+
+        assertThatThrownBy(() -> runner.runTasks(tasks, 1)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> runner.runTasks(tasks, 2)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void runTasksInFlight() {
+        var createdTasks = new AtomicInteger();
+        var maxTasksInFlight = new AtomicInteger();
+        var results = new ArrayList<Integer>();
+        Iterator<Callable<Integer>> tasks = Iterator.range(0, 20).map(value -> {
+            var created = createdTasks.incrementAndGet();
+            maxTasksInFlight.accumulateAndGet(created - results.size(), Math::max);
+            return () -> value;
+        });
+
+        runner.runTasks(tasks, 2, 4, results::add);
+
+        assertThat(results).containsExactlyElementsOf(Vector.range(0, 20));
+        assertThat(maxTasksInFlight.get()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    public void runTasksInFlightSequentially() {
+        var callerThread = Thread.currentThread();
+        var results = new ArrayList<Boolean>();
+        Iterator<Callable<Boolean>> tasks = Iterator.of(
+                () -> Thread.currentThread() == callerThread,
+                () -> Thread.currentThread() == callerThread);
+
+        runner.runTasks(tasks, 1, 2, results::add);
+
+        assertThat(results).containsExactly(true, true);
+    }
+
+    @Test
+    public void runTasksInFlightFailure() {
+        Iterator<Callable<String>> tasks = Iterator.of(
+                () -> "a",
+                () -> {
+                    throw new IOException("failure");
+                });
+
+        assertThatThrownBy(() -> runner.runTasks(tasks, 2, 2, result -> {})).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package opennlpmodgen.tools.util;
+
+import com.google.common.jimfs.Jimfs;
+import io.vavr.collection.HashMap;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SettingsTest {
+    private Settings settings = new Settings(HashMap.of(
+            "string", " abc ",
+            "blank", " ",
+            "int", "12",
+            "long", "12345678901",
+            "double", "0.25",
+            "boolean", "true"));
+
+    @Test
+    public void getString() {
+        assertThat(settings.getString("string")).contains("abc");
+        assertThat(settings.getString("blank")).isEmpty();
+        assertThat(settings.getString("missing")).isEmpty();
+    }
+
+    @Test
+    public void getInt() {
+        assertThat(settings.getInt("int", 3)).isEqualTo(12);
+        assertThat(settings.getInt("blank", 3)).isEqualTo(3);
+        assertThat(settings.getInt("missing", 3)).isEqualTo(3);
+    }
+
+    @Test
+    public void getLong() {
+        assertThat(settings.getLong("long", 3)).isEqualTo(12345678901L);
+        assertThat(settings.getLong("missing", 3)).isEqualTo(3);
+    }
+
+    @Test
+    public void getDouble() {
+        assertThat(settings.getDouble("double", 0.5)).isEqualTo(0.25);
+        assertThat(settings.getDouble("missing", 0.5)).isEqualTo(0.5);
+    }
+
+    @Test
+    public void getBoolean() {
+        assertThat(settings.getBoolean("boolean", false)).isTrue();
+        assertThat(settings.getBoolean("missing", false)).isFalse();
+    }
+
+    @Test
+    public void getIncorrectNumber() {
+        assertThatThrownBy(() -> settings.getInt("string", 3)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void empty() {
+        assertThat(Settings.empty().getInt("int", 3)).isEqualTo(3);
+    }
+
+    @Test
+    public void fromProperties() {
+        var properties = new Properties();
+        properties.setProperty("x.int", "4");
+        properties.setProperty("y.int", "5");
+
+        assertThat(Settings.fromProperties(properties, "x.")).isEqualTo(new Settings(HashMap.of("int", "4")));
+    }
+
+    @Test
+    public void fromFile() throws Exception {
+        Path propertiesPath = Jimfs.newFileSystem().getPath("settings.properties");
+        Files.writeString(propertiesPath, "# comment\nx.int=4\nx.string = zażółć\ny.int=5\n");
+
+        assertThat(Settings.fromFile(propertiesPath, "x.")).isEqualTo(new Settings(HashMap.of("int", "4", "string", "zażółć")));
+    }
+
+    @Test
+    public void withDefaults() {
+        var defaults = new Settings(HashMap.of("int", "4", "other", "5"));
+
+        var merged = settings.withDefaults(defaults);
+
+        assertThat(merged.getInt("int", 0)).isEqualTo(12);
+        assertThat(merged.getInt("other", 0)).isEqualTo(5);
+    }
+
+    @Test
+    public void getByPrefix() {
+        var prefixedSettings = new Settings(HashMap.of("p.a", "1", "p.b", "2", "q.c", "3"));
+
+        assertThat(prefixedSettings.getByPrefix("p.")).isEqualTo(HashMap.of("a", "1", "b", "2"));
+    }
+}